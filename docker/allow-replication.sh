@@ -0,0 +1,4 @@
+#!/bin/bash
+# Lets the streaming replica of the "replica" compose profile connect; the default pg_hba.conf only accepts local
+# replication connections. Runs once, when the primary initializes an empty data volume.
+echo 'host replication all all scram-sha-256' >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,117 @@
+package com.skat.backend.application;
+
+import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayersQuery;
+import com.skat.backend.application.dto.PlayersSort;
+import com.skat.backend.application.leaderboard.LeaderboardService;
+import com.skat.backend.domain.projections.PlayerWithScoreView;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmark of the CPU-side work of {@link PlayersServiceImpl#listPlayers}: mapping the projection rows to DTOs and
+ * building the keyset cursor for name ordered pages, and paging the in-memory leaderboard for score ordered pages.
+ * The repository is a stub returning prepared rows, so no database is involved. Every fourth player has no score
+ * yet and gets the current time as update timestamp, as in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerListingBenchmark {
+
+	@Param({ "50", "200", "10000" })
+	private int rows;
+
+	private PlayersServiceImpl playersService;
+	private PlayersQuery byName;
+	private PlayersQuery byScore;
+	private PlayersQuery byScoreAfterCursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		var players = players(Math.max(rows, 10_000));
+		// Stub only, so the mock does not record the millions of invocations
+		var playerRepository = mock(PlayerRepository.class, withSettings().stubOnly());
+		when(playerRepository.findAllOrderedByName(anyInt(), anyInt())).thenReturn(players.subList(0, rows));
+		when(playerRepository.findAllWithScore()).thenReturn(players);
+		when(playerRepository.count()).thenReturn((long) players.size());
+
+		var leaderboardService = new LeaderboardService();
+		ReflectionTestUtils.setField(leaderboardService, "playerRepository", playerRepository);
+		ReflectionTestUtils.setField(leaderboardService, "enabled", true);
+		leaderboardService.reload();
+
+		playersService = new PlayersServiceImpl();
+		ReflectionTestUtils.setField(playersService, "playerRepository", playerRepository);
+		ReflectionTestUtils.setField(playersService, "leaderboardService", leaderboardService);
+
+		byName = new PlayersQuery(0, rows, PlayersSort.NAME, null);
+		byScore = new PlayersQuery(0, rows, PlayersSort.SCORE_DESC, null);
+		// Continues in the middle of the ranking, from the cursor of a page of a hundred players
+		var middle = playersService.listPlayers(new PlayersQuery(players.size() / 2 - 100, 100,
+			PlayersSort.SCORE_DESC, null));
+		byScoreAfterCursor = new PlayersQuery(0, rows, PlayersSort.SCORE_DESC, middle.next_cursor());
+	}
+
+	@Benchmark
+	public PlayerListResponseTO listByName() {
+		return playersService.listPlayers(byName);
+	}
+
+	@Benchmark
+	public PlayerListResponseTO listByScore() {
+		return playersService.listPlayers(byScore);
+	}
+
+	@Benchmark
+	public PlayerListResponseTO listByScoreAfterCursor() {
+		return playersService.listPlayers(byScoreAfterCursor);
+	}
+
+	private static List<PlayerWithScoreView> players(int count) {
+		var random = new Random(42);
+		var now = Instant.now();
+		var players = new ArrayList<PlayerWithScoreView>(count);
+		for (var i = 0; i < count; i++) {
+			var scored = i % 4 != 0;
+			players.add(new Row(
+				new UUID(random.nextLong(), random.nextLong()),
+				"First" + random.nextInt(1_000),
+				"Last" + random.nextInt(5_000),
+				scored ? random.nextInt(-500, 5_000) : null,
+				scored ? random.nextInt(1, 300) : null,
+				scored ? now.minusSeconds(random.nextInt(1_000_000)) : null));
+		}
+		return players;
+	}
+
+	private record Row(UUID getId, String getFirstName, String getLastName, Integer getTotalPoints,
+		Integer getSequenceIndex, Instant getUpdatedAt) implements PlayerWithScoreView {
+	}
+}
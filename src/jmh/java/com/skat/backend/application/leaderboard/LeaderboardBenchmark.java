@@ -0,0 +1,85 @@
+package com.skat.backend.application.leaderboard;
+
+import com.skat.backend.application.events.PlayerScoreChangedEvent;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Benchmark of the score ordering: sorting players with the {@link LeaderboardService#RANKING} comparator, which
+ * decides every score ordered page, and applying a score change to a leaderboard of the given size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+	@Param({ "50", "200", "10000" })
+	private int rows;
+
+	private List<LeaderboardEntry> entries;
+	private LeaderboardService leaderboardService;
+	private LeaderboardEntry[] changedPlayers;
+	private int[] changedPoints;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		var random = new Random(42);
+		entries = new ArrayList<>(rows);
+		for (var i = 0; i < rows; i++) {
+			entries.add(new LeaderboardEntry(new UUID(random.nextLong(), random.nextLong()),
+				"First" + random.nextInt(1_000), "Last" + random.nextInt(5_000), random.nextInt(-500, 5_000),
+				random.nextInt(1, 300), OffsetDateTime.now()));
+		}
+
+		leaderboardService = new LeaderboardService();
+		ReflectionTestUtils.setField(leaderboardService, "enabled", true);
+		for (var entry : entries) {
+			leaderboardService.onPlayerScoreChanged(new PlayerScoreChangedEvent(entry.playerId(), entry.firstName(),
+				entry.lastName(), entry.totalPoints(), entry.sequenceIndex(), entry.updatedAt()));
+		}
+		changedPlayers = new LeaderboardEntry[1 << 16];
+		changedPoints = new int[changedPlayers.length];
+		for (var i = 0; i < changedPlayers.length; i++) {
+			changedPlayers[i] = entries.get(random.nextInt(rows));
+			changedPoints[i] = random.nextInt(-500, 5_000);
+		}
+	}
+
+	@Benchmark
+	public List<LeaderboardEntry> sortByRanking() {
+		var sorted = new ArrayList<>(entries);
+		sorted.sort(LeaderboardService.RANKING);
+		return sorted;
+	}
+
+	@Benchmark
+	public int applyScoreChange() {
+		var i = next & (changedPlayers.length - 1);
+		var player = changedPlayers[i];
+		// The sequence index keeps increasing, so no change is dropped as outdated
+		leaderboardService.onPlayerScoreChanged(new PlayerScoreChangedEvent(player.playerId(), player.firstName(),
+			player.lastName(), changedPoints[i], 1_000 + next++, player.updatedAt()));
+		return next;
+	}
+}
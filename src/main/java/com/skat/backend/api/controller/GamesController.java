@@ -0,0 +1,67 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.GamesService;
+import com.skat.backend.application.dto.CreateGameRequest;
+import com.skat.backend.application.dto.GameTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@RequestMapping("/api/games")
+@Validated
+@Tag(name = "Games", description = "Game recording API")
+public class GamesController {
+
+	@Autowired
+	private GamesService gamesService;
+
+	@PostMapping
+	@Operation(summary = "Store a new game", description = "Stores a game and appends the next cumulative score of each of its three players")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "201", description = "Game successfully stored",
+			content = @Content(schema = @Schema(implementation = GameTO.class))),
+		@ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content),
+		@ApiResponse(responseCode = "404", description = "Referenced player not found", content = @Content)
+	})
+	public ResponseEntity<GameTO> createGame(
+		@Parameter(description = "Game data to store", required = true)
+		@Valid @RequestBody CreateGameRequest request) {
+		var game = gamesService.createGame(request);
+		var location = ServletUriComponentsBuilder
+			.fromCurrentRequest()
+			.path("/{id}")
+			.buildAndExpand(game.id())
+			.toUri();
+		return ResponseEntity.created(location).body(game);
+	}
+
+	@GetMapping("/{id}")
+	@Operation(summary = "Load a game", description = "Retrieves a game by ID")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Successfully retrieved the game",
+			content = @Content(schema = @Schema(implementation = GameTO.class))),
+		@ApiResponse(responseCode = "404", description = "Game not found", content = @Content)
+	})
+	public ResponseEntity<GameTO> getGame(
+		@Parameter(description = "Game ID", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+		@PathVariable UUID id) {
+		return ResponseEntity.ok(gamesService.getGame(id));
+	}
+}
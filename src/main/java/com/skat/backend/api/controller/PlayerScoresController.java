@@ -0,0 +1,71 @@
+package com.skat.backend.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skat.backend.application.PlayerScoresService;
+import com.skat.backend.application.dto.PlayerScoreTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/player-scores")
+@Tag(name = "Player scores", description = "Score history API")
+public class PlayerScoresController {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@Autowired
+	private PlayerScoresService playerScoresService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Export player scores", description = "Streams all score entries created on or after the given timestamp as newline-delimited JSON, one score per line, while they are read from the database")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Score entries streamed",
+			content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+				schema = @Schema(implementation = PlayerScoreTO.class))),
+		@ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content)
+	})
+	public ResponseEntity<StreamingResponseBody> exportPlayerScores(
+		@Parameter(description = "Only scores created on or after this timestamp", required = true, example = "2025-10-23T20:15:00+02:00")
+		@RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+		@Parameter(description = "Only scores of this player", example = "123e4567-e89b-12d3-a456-426614174000")
+		@RequestParam(name = "player_id", required = false) UUID playerId) {
+		var writer = objectMapper.writerFor(PlayerScoreTO.class);
+		StreamingResponseBody body = out -> {
+			var buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+			playerScoresService.forEachScore(from, playerId, score -> {
+				try {
+					buffered.write(writer.writeValueAsBytes(score));
+					buffered.write('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			buffered.flush();
+		};
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(body);
+	}
+}
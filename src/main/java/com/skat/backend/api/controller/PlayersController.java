@@ -1,11 +1,18 @@
 package com.skat.backend.api.controller;
 
+import com.skat.backend.application.DataVersion;
+import com.skat.backend.application.GamesService;
 import com.skat.backend.application.PlayersService;
+import com.skat.backend.application.dto.DeletePlayersRequest;
+import com.skat.backend.application.dto.DeletePlayersResponseTO;
+import com.skat.backend.application.dto.PlayerGamesResponseTO;
 import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerRankTO;
 import com.skat.backend.application.dto.PlayerTO;
 import com.skat.backend.application.dto.PlayersQuery;
 import com.skat.backend.application.dto.PlayersSort;
 import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.leaderboard.ScoreStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,6 +25,9 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,6 +39,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
@@ -40,11 +52,22 @@ public class PlayersController {
 	@Autowired
 	private PlayersService playersService;
 
+	@Autowired
+	private GamesService gamesService;
+
+	@Autowired
+	private DataVersion dataVersion;
+
+	@Autowired
+	private ScoreStreamService scoreStreamService;
+
 	@GetMapping
-	@Operation(summary = "List all players", description = "Retrieves a paginated list of players with their current score snapshot, supporting sorting and pagination")
+	@Operation(summary = "List all players", description = "Retrieves a paginated list of players with their current score snapshot, supporting sorting, offset pagination and keyset pagination via next_cursor")
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "200", description = "Successfully retrieved list of players",
 			content = @Content(schema = @Schema(implementation = PlayerListResponseTO.class))),
+		@ApiResponse(responseCode = "304", description = "No player or score changed since the ETag given in If-None-Match",
+			content = @Content),
 		@ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content)
 	})
 	public ResponseEntity<PlayerListResponseTO> listPlayers(
@@ -53,10 +76,64 @@ public class PlayersController {
 		@Parameter(description = "Starting index for pagination (0-based)", example = "0")
 		@RequestParam(name = "startIndex", required = false, defaultValue = "0") @Min(0) int startIndex,
 		@Parameter(description = "Number of items per page (1-200)", example = "50")
-		@RequestParam(name = "pageSize", required = false, defaultValue = "50") @Min(1) @Max(200) int pageSize) {
-		var query = new PlayersQuery(startIndex, pageSize, sort);
+		@RequestParam(name = "pageSize", required = false, defaultValue = "50") @Min(1) @Max(200) int pageSize,
+		@Parameter(description = "Opaque keyset cursor (next_cursor of the previous page); replaces startIndex")
+		@RequestParam(name = "cursor", required = false) String cursor,
+		WebRequest webRequest) {
+		// Read before the data, so the tag never claims a newer state than the page contains
+		var etag = dataVersion.etag();
+		if (webRequest.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(etag)
+				.cacheControl(CacheControl.noCache())
+				.build();
+		}
+		var query = new PlayersQuery(startIndex, pageSize, sort, cursor);
 		var response = playersService.listPlayers(query);
-		return ResponseEntity.ok(response);
+		return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
+	}
+
+	@GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Stream score changes", description = "Server-Sent Events stream pushing a 'score' event with player_id, total_points and sequence_index for every stored score. A 'resync' event tells a client that fell behind to reload the listing")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Event stream opened")
+	})
+	public SseEmitter streamScores() {
+		return scoreStreamService.subscribe();
+	}
+
+	@GetMapping("/{id}/rank")
+	@Operation(summary = "Get the rank of a player", description = "Retrieves the leaderboard rank of a player (score descending) together with the players ranked directly above and below")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Successfully retrieved the rank",
+			content = @Content(schema = @Schema(implementation = PlayerRankTO.class))),
+		@ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content),
+		@ApiResponse(responseCode = "404", description = "Player not found", content = @Content)
+	})
+	public ResponseEntity<PlayerRankTO> getPlayerRank(
+		@Parameter(description = "Player ID", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+		@PathVariable UUID id,
+		@Parameter(description = "Number of players to include above and below (0-50)", example = "2")
+		@RequestParam(name = "neighbors", required = false, defaultValue = "2") @Min(0) @Max(50) int neighbors) {
+		return ResponseEntity.ok(playersService.getPlayerRank(id, neighbors));
+	}
+
+	@GetMapping("/{id}/games")
+	@Operation(summary = "List the games of a player", description = "Retrieves the games a player took part in, newest first, with the player's cumulative score after each game. Further pages are requested with next_cursor")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Successfully retrieved the games",
+			content = @Content(schema = @Schema(implementation = PlayerGamesResponseTO.class))),
+		@ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content),
+		@ApiResponse(responseCode = "404", description = "Player not found", content = @Content)
+	})
+	public ResponseEntity<PlayerGamesResponseTO> listPlayerGames(
+		@Parameter(description = "Player ID", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+		@PathVariable UUID id,
+		@Parameter(description = "Number of games per page (1-200)", example = "50")
+		@RequestParam(name = "pageSize", required = false, defaultValue = "50") @Min(1) @Max(200) int pageSize,
+		@Parameter(description = "Opaque keyset cursor (next_cursor of the previous page)")
+		@RequestParam(name = "cursor", required = false) String cursor) {
+		return ResponseEntity.ok(gamesService.listPlayerGames(id, pageSize, cursor));
 	}
 
 	@PostMapping
@@ -112,4 +189,20 @@ public class PlayersController {
 		playersService.deletePlayer(id, forceDeletion);
 		return ResponseEntity.noContent().build();
 	}
+
+	@DeleteMapping
+	@Operation(summary = "Delete players", description = "Deletes all given players in one transaction with set-based statements. Use forceDeletion=true to nullify references in games and scores before deletion")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Players deleted; unknown ids are listed in not_found",
+			content = @Content(schema = @Schema(implementation = DeletePlayersResponseTO.class))),
+		@ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content),
+		@ApiResponse(responseCode = "409", description = "A player has references and forceDeletion is false", content = @Content)
+	})
+	public ResponseEntity<DeletePlayersResponseTO> deletePlayers(
+		@Parameter(description = "IDs of the players to delete", required = true)
+		@Valid @RequestBody DeletePlayersRequest request,
+		@Parameter(description = "Force deletion by nullifying references", example = "false")
+		@RequestParam(name = "forceDeletion", required = false, defaultValue = "false") boolean forceDeletion) {
+		return ResponseEntity.ok(playersService.deletePlayers(request.ids(), forceDeletion));
+	}
 }
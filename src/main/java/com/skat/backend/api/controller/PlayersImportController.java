@@ -0,0 +1,39 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.PlayersImportService;
+import com.skat.backend.application.dto.BulkPlayerImportResponseTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api")
+@Tag(name = "Players", description = "Player management API")
+public class PlayersImportController {
+
+	@Autowired
+	private PlayersImportService playersImportService;
+
+	@PostMapping(path = "/players:bulk",
+		consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+	@Operation(summary = "Import players", description = "Creates players from a JSON array or an NDJSON stream of player requests in batches and reports a created, conflict or invalid result per row")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Import processed, see the per-row results",
+			content = @Content(schema = @Schema(implementation = BulkPlayerImportResponseTO.class))),
+		@ApiResponse(responseCode = "400", description = "Request body malformed before its first row", content = @Content)
+	})
+	public ResponseEntity<BulkPlayerImportResponseTO> importPlayers(InputStream body) throws IOException {
+		return ResponseEntity.ok(playersImportService.importPlayers(body));
+	}
+}
@@ -0,0 +1,80 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.api.exception.NotFoundException;
+import com.skat.backend.application.dto.GameTO;
+import com.skat.backend.application.dto.PlayerScoreTO;
+import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.PlayersSort;
+import com.skat.backend.application.reactive.ReactiveReadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only API for dashboards, served without a request thread or JDBC connection while waiting for the database.
+ * Streams are written as newline-delimited JSON; the next row is requested only after the previous one was written.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+@Tag(name = "Reactive reads", description = "Non-blocking read API over R2DBC")
+public class ReactiveReadController {
+
+	@Autowired
+	private ReactiveReadService reactiveReadService;
+
+	@GetMapping(path = "/players", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Stream all players", description = "Streams every player with the current score snapshot as newline-delimited JSON, ordered by name or score")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Players streamed",
+			content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+				schema = @Schema(implementation = PlayerWithScoreTO.class))),
+		@ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content)
+	})
+	public Flux<PlayerWithScoreTO> streamPlayers(
+		@Parameter(description = "Sort order for players (NAME or SCORE_DESC)", example = "NAME")
+		@RequestParam(name = "sort", required = false, defaultValue = "NAME") PlayersSort sort) {
+		return reactiveReadService.streamPlayers(sort);
+	}
+
+	@GetMapping(path = "/players/{id}/scores", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Stream the score history of a player", description = "Streams the cumulative scores of a player in sequence order as newline-delimited JSON; empty for an unknown player")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Scores streamed",
+			content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+				schema = @Schema(implementation = PlayerScoreTO.class))),
+		@ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content)
+	})
+	public Flux<PlayerScoreTO> streamPlayerScores(
+		@Parameter(description = "Player ID", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+		@PathVariable UUID id) {
+		return reactiveReadService.streamPlayerScores(id);
+	}
+
+	@GetMapping("/games/{id}")
+	@Operation(summary = "Load a game", description = "Retrieves a game by ID")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "Successfully retrieved the game",
+			content = @Content(schema = @Schema(implementation = GameTO.class))),
+		@ApiResponse(responseCode = "404", description = "Game not found", content = @Content)
+	})
+	public Mono<GameTO> getGame(
+		@Parameter(description = "Game ID", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+		@PathVariable UUID id) {
+		return reactiveReadService.findGame(id)
+			.switchIfEmpty(Mono.error(() -> new NotFoundException("Game not found", "id")));
+	}
+}
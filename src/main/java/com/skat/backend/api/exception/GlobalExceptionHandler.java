@@ -3,8 +3,11 @@ package com.skat.backend.api.exception;
 import com.skat.backend.application.dto.ErrorResponseTO;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -13,6 +16,9 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+	// Seconds a client should wait before retrying a request that found no free database connection
+	private static final String RETRY_AFTER_SECONDS = "1";
+
 	@ExceptionHandler(NotFoundException.class)
 	public ResponseEntity<ErrorResponseTO> handleNotFoundException(NotFoundException ex) {
 		var error = new ErrorResponseTO(
@@ -76,4 +82,19 @@ public class GlobalExceptionHandler {
 			field);
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
 	}
+
+	/**
+	 * A request that waited {@code spring.datasource.hikari.connection-timeout} without getting a connection (or found
+	 * the database unreachable) is answered with 503, so clients back off instead of treating the overload as a bug.
+	 */
+	@ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+	public ResponseEntity<ErrorResponseTO> handleConnectionUnavailableException(RuntimeException ex) {
+		var error = new ErrorResponseTO(
+			"service_unavailable",
+			"No database connection available, retry later",
+			null);
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+			.body(error);
+	}
 }
@@ -0,0 +1,52 @@
+package com.skat.backend.application;
+
+import com.skat.backend.application.events.PlayerChangedEvent;
+import com.skat.backend.application.events.PlayerDeletedEvent;
+import com.skat.backend.application.events.PlayerScoreChangedEvent;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Monotonically increasing version of the player and score data, advanced after every committed player or score
+ * write. Read endpoints derive their {@code ETag} from it and answer unchanged polls with 304 without querying the
+ * database.
+ * <p>
+ * A response must read the version before its data: since the version is advanced only after a write committed,
+ * every write counted in that version is visible to the following read. Like the in-memory leaderboard, the version
+ * only observes writes made through this instance; the instance id in the tag keeps tags of different instances or
+ * restarts apart.
+ */
+@Component
+public class DataVersion {
+
+	private final String instanceId = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+	private final AtomicLong version = new AtomicLong();
+
+	public long current() {
+		return version.get();
+	}
+
+	/**
+	 * @return strong entity tag of the current version, including the quotes
+	 */
+	public String etag() {
+		return "\"" + instanceId + "-" + current() + "\"";
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPlayerChanged(PlayerChangedEvent event) {
+		version.incrementAndGet();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPlayerDeleted(PlayerDeletedEvent event) {
+		version.incrementAndGet();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPlayerScoreChanged(PlayerScoreChangedEvent event) {
+		version.incrementAndGet();
+	}
+}
@@ -0,0 +1,29 @@
+package com.skat.backend.application;
+
+import com.skat.backend.application.dto.CreateGameRequest;
+import com.skat.backend.application.dto.GameTO;
+import com.skat.backend.application.dto.PlayerGamesResponseTO;
+import java.util.UUID;
+
+public interface GamesService {
+
+	/**
+	 * Stores a game and appends the next cumulative score row for each of its three players. The main player gains the
+	 * game's score, the other players keep their total.
+	 *
+	 * @param request game data
+	 * @return the created game
+	 */
+	GameTO createGame(CreateGameRequest request);
+
+	GameTO getGame(UUID id);
+
+	/**
+	 * Returns a page of the games a player took part in, newest first, with the player's score after each game.
+	 *
+	 * @param playerId the player
+	 * @param pageSize maximum number of games
+	 * @param cursor   {@code next_cursor} of the previous page, or {@code null} for the newest games
+	 */
+	PlayerGamesResponseTO listPlayerGames(UUID playerId, int pageSize, String cursor);
+}
@@ -0,0 +1,178 @@
+package com.skat.backend.application;
+
+import com.skat.backend.api.exception.NotFoundException;
+import com.skat.backend.application.dto.CreateGameRequest;
+import com.skat.backend.application.dto.GameTO;
+import com.skat.backend.application.dto.PlayerGameTO;
+import com.skat.backend.application.dto.PlayerGamesCursor;
+import com.skat.backend.application.dto.PlayerGamesResponseTO;
+import com.skat.backend.application.events.PlayerScoreChangedEvent;
+import com.skat.backend.domain.entities.GameEntity;
+import com.skat.backend.domain.entities.PlayerEntity;
+import com.skat.backend.domain.entities.PlayerScoreEntity;
+import com.skat.backend.domain.projections.GameView;
+import com.skat.backend.domain.projections.PlayerGameView;
+import com.skat.backend.domain.repositories.GameRepository;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class GamesServiceImpl implements GamesService {
+
+	private static final List<String> PLAYER_FIELDS = List.of("player1_id", "player2_id", "player3_id");
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private PlayerScoreRepository playerScoreRepository;
+
+	@Autowired
+	private ScoreSequenceAllocator scoreSequenceAllocator;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Override
+	@Transactional
+	public GameTO createGame(CreateGameRequest request) {
+		var playerIds = List.of(request.player1_id(), request.player2_id(), request.player3_id());
+		if (new HashSet<>(playerIds).size() != playerIds.size()) {
+			throw new IllegalArgumentException("player1_id, player2_id and player3_id must be distinct");
+		}
+		if (!playerIds.contains(request.main_player_id())) {
+			throw new IllegalArgumentException("main_player_id must be one of the game's players");
+		}
+
+		// Locks the players' score counters until commit, so concurrent games of the same player are serialized
+		var slots = scoreSequenceAllocator.allocate(playerIds);
+		for (var i = 0; i < playerIds.size(); i++) {
+			if (!slots.containsKey(playerIds.get(i))) {
+				throw new NotFoundException("Player not found", PLAYER_FIELDS.get(i));
+			}
+		}
+
+		// References avoid loading the player rows again
+		var players = playerIds.stream()
+			.map(playerRepository::getReferenceById)
+			.toList();
+		var game = new GameEntity();
+		game.setPlayer1(players.get(0));
+		game.setPlayer2(players.get(1));
+		game.setPlayer3(players.get(2));
+		game.setMainPlayer(players.get(playerIds.indexOf(request.main_player_id())));
+		game.setBidValue(request.bid_value());
+		game.setScore(request.score());
+		game.setPlayedAt(request.played_at());
+		game = gameRepository.save(game);
+
+		var createdAt = OffsetDateTime.now();
+		var scores = new ArrayList<PlayerScoreEntity>(players.size());
+		var events = new ArrayList<PlayerScoreChangedEvent>(players.size());
+		for (var player : players) {
+			var slot = slots.get(player.getId());
+			var gained = player.getId().equals(request.main_player_id()) ? request.score() : 0;
+			var score = newScore(player, game, slot, gained, createdAt);
+			scores.add(score);
+			events.add(new PlayerScoreChangedEvent(player.getId(), slot.firstName(), slot.lastName(),
+				score.getTotalPoints(), score.getSequenceIndex(), createdAt));
+		}
+
+		// Ids are generated client-side, so the three rows are flushed as one JDBC batch after the game INSERT,
+		// which the driver rewrites into a single multi-row INSERT
+		playerScoreRepository.saveAll(scores);
+		events.forEach(eventPublisher::publishEvent);
+
+		return toGame(game);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public GameTO getGame(UUID id) {
+		// Served from the second-level cache once the game was stored or read
+		return gameRepository.findById(id)
+			.map(GamesServiceImpl::toGame)
+			.orElseThrow(() -> new NotFoundException("Game not found", "id"));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public PlayerGamesResponseTO listPlayerGames(UUID playerId, int pageSize, String cursor) {
+		var position = cursor != null ? PlayerGamesCursor.decode(cursor) : null;
+		if (!playerRepository.existsById(playerId)) {
+			throw new NotFoundException("Player not found", "id");
+		}
+
+		var rows = position != null
+			? gameRepository.findLatestByPlayerIdBefore(playerId,
+				OffsetDateTime.ofInstant(position.playedAt(), ZoneOffset.UTC), position.gameId(), pageSize)
+			: gameRepository.findLatestByPlayerId(playerId, pageSize);
+		var items = rows.stream()
+			.map(GamesServiceImpl::toPlayerGame)
+			.toList();
+
+		String nextCursor = null;
+		if (!rows.isEmpty() && rows.size() == pageSize) {
+			var last = rows.get(rows.size() - 1);
+			nextCursor = new PlayerGamesCursor(last.getPlayedAt(), last.getId()).encode();
+		}
+		return new PlayerGamesResponseTO(items, nextCursor);
+	}
+
+	private static PlayerScoreEntity newScore(PlayerEntity player, GameEntity game, ScoreSlot slot, int gained,
+		OffsetDateTime createdAt) {
+		var score = new PlayerScoreEntity();
+		score.setPlayer(player);
+		score.setGame(game);
+		score.setSequenceIndex(slot.nextSequenceIndex());
+		score.setTotalPoints(slot.totalPoints() + gained);
+		score.setCreatedAt(createdAt);
+		return score;
+	}
+
+	private static GameTO toGame(GameEntity game) {
+		return new GameTO(
+			game.getId(),
+			idOf(game.getPlayer1()),
+			idOf(game.getPlayer2()),
+			idOf(game.getPlayer3()),
+			idOf(game.getMainPlayer()),
+			game.getBidValue(),
+			game.getScore(),
+			game.getPlayedAt());
+	}
+
+	private static GameTO toGame(GameView row) {
+		return new GameTO(
+			row.getId(),
+			row.getPlayer1Id(),
+			row.getPlayer2Id(),
+			row.getPlayer3Id(),
+			row.getMainPlayerId(),
+			row.getBidValue(),
+			row.getScore(),
+			OffsetDateTime.ofInstant(row.getPlayedAt(), ZoneId.systemDefault()));
+	}
+
+	private static PlayerGameTO toPlayerGame(PlayerGameView row) {
+		return new PlayerGameTO(toGame(row), row.getSequenceIndex(), row.getTotalPoints());
+	}
+
+	private static UUID idOf(PlayerEntity player) {
+		return player != null ? player.getId() : null;
+	}
+}
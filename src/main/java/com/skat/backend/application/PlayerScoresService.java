@@ -0,0 +1,19 @@
+package com.skat.backend.application;
+
+import com.skat.backend.application.dto.PlayerScoreTO;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface PlayerScoresService {
+
+	/**
+	 * Passes every score created at or after {@code from} to the given action while it is read from the database,
+	 * without collecting the scores in memory.
+	 *
+	 * @param from     inclusive lower bound of the creation time
+	 * @param playerId optional player filter, {@code null} for all players
+	 * @param action   receives the scores in (created_at, id) order, or in sequence order for a single player
+	 */
+	void forEachScore(OffsetDateTime from, UUID playerId, Consumer<PlayerScoreTO> action);
+}
@@ -0,0 +1,45 @@
+package com.skat.backend.application;
+
+import com.skat.backend.application.dto.PlayerScoreTO;
+import com.skat.backend.application.replica.PrimaryOnly;
+import com.skat.backend.domain.projections.PlayerScoreView;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class PlayerScoresServiceImpl implements PlayerScoresService {
+
+	@Autowired
+	private PlayerScoreRepository playerScoreRepository;
+
+	// An export may run for many minutes, longer than a read replica lets a query hold back the replay of the
+	// primary's changes, so it stays on the primary
+	@Override
+	@PrimaryOnly
+	@Transactional(readOnly = true)
+	public void forEachScore(OffsetDateTime from, UUID playerId, Consumer<PlayerScoreTO> action) {
+		// The PostgreSQL driver honours the fetch size only inside a transaction; the open cursor is read in
+		// portions while the rows are handed on, so memory use does not grow with the range
+		try (var rows = playerId != null
+			? playerScoreRepository.streamByPlayerIdCreatedFrom(playerId, from)
+			: playerScoreRepository.streamAllCreatedFrom(from)) {
+			rows.map(PlayerScoresServiceImpl::toPlayerScore).forEach(action);
+		}
+	}
+
+	private static PlayerScoreTO toPlayerScore(PlayerScoreView row) {
+		return new PlayerScoreTO(
+			row.getId(),
+			row.getPlayerId(),
+			row.getGameId(),
+			row.getSequenceIndex(),
+			row.getTotalPoints(),
+			OffsetDateTime.ofInstant(row.getCreatedAt(), ZoneId.systemDefault()));
+	}
+}
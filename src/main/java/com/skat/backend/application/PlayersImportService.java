@@ -0,0 +1,133 @@
+package com.skat.backend.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skat.backend.api.exception.ConflictException;
+import com.skat.backend.application.dto.BulkPlayerImportResponseTO;
+import com.skat.backend.application.dto.BulkPlayerResultTO;
+import com.skat.backend.application.dto.BulkPlayerStatus;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports players from a JSON array or an NDJSON stream. Rows are read one at a time and written in chunks of
+ * {@link #CHUNK_SIZE}, each chunk in its own transaction, so at most one chunk of requests is held at a time. The
+ * per-row results are kept for the response and grow with the size of the import.
+ */
+@Service
+@Slf4j
+public class PlayersImportService {
+
+	static final int CHUNK_SIZE = 500;
+
+	@Autowired
+	private PlayersService playersService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private Validator validator;
+
+	/**
+	 * Imports all rows of the given body. A malformed row ends the import: the rows before it are imported and
+	 * reported, the malformed row is reported as invalid and the rest of the body is not read.
+	 *
+	 * @param body JSON array or newline-delimited JSON objects of {@link UpsertPlayerRequest}
+	 * @return one result per row in input order
+	 * @throws IllegalArgumentException if the body is malformed before its first row, nothing is imported then
+	 */
+	public BulkPlayerImportResponseTO importPlayers(InputStream body) throws IOException {
+		var results = new ArrayList<BulkPlayerResultTO>();
+		var chunk = new ArrayList<UpsertPlayerRequest>(CHUNK_SIZE);
+		var chunkIndexes = new ArrayList<Integer>(CHUNK_SIZE);
+		var index = 0;
+
+		// A root-level array is unwrapped by the iterator, so both formats are read the same way
+		try (var rows = objectMapper.readerFor(UpsertPlayerRequest.class).<UpsertPlayerRequest>readValues(body)) {
+			for (; rows.hasNextValue(); index++) {
+				var row = rows.nextValue();
+				if (row == null) {
+					results.add(new BulkPlayerResultTO(index, BulkPlayerStatus.INVALID, null, null, null,
+						"Player must be an object"));
+					continue;
+				}
+				var violation = validator.validate(row).stream().findFirst();
+				if (violation.isPresent()) {
+					results.add(new BulkPlayerResultTO(index, BulkPlayerStatus.INVALID, null, row.first_name(),
+						row.last_name(), violation.get().getMessage()));
+					continue;
+				}
+
+				chunk.add(row);
+				chunkIndexes.add(index);
+				if (chunk.size() == CHUNK_SIZE) {
+					flush(chunk, chunkIndexes, results);
+				}
+			}
+		} catch (JsonProcessingException e) {
+			if (index == 0) {
+				throw new IllegalArgumentException("Malformed player at row 0");
+			}
+			// Earlier chunks are already committed, so report them together with the row that ended the import
+			results.add(new BulkPlayerResultTO(index, BulkPlayerStatus.INVALID, null, null, null,
+				"Malformed player, the rows after it were not read"));
+		}
+		flush(chunk, chunkIndexes, results);
+		results.sort(Comparator.comparingInt(BulkPlayerResultTO::index));
+
+		return new BulkPlayerImportResponseTO(
+			count(results, BulkPlayerStatus.CREATED),
+			count(results, BulkPlayerStatus.CONFLICT),
+			count(results, BulkPlayerStatus.INVALID),
+			results);
+	}
+
+	private void flush(List<UpsertPlayerRequest> chunk, List<Integer> chunkIndexes, List<BulkPlayerResultTO> results) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+
+		List<BulkPlayerResultTO> created;
+		try {
+			created = playersService.createPlayers(chunk);
+		} catch (DataIntegrityViolationException e) {
+			// A name was taken concurrently after the chunk looked up existing names; the chunk was rolled back,
+			// so fall back to the single-row path which reports each conflict on its own
+			log.info("Bulk insert of {} players raced with a concurrent write, retrying row by row", chunk.size());
+			created = chunk.stream().map(this::createSingle).toList();
+		}
+
+		for (var i = 0; i < created.size(); i++) {
+			var result = created.get(i);
+			results.add(new BulkPlayerResultTO(chunkIndexes.get(i), result.status(), result.id(), result.first_name(),
+				result.last_name(), result.message()));
+		}
+		chunk.clear();
+		chunkIndexes.clear();
+	}
+
+	private BulkPlayerResultTO createSingle(UpsertPlayerRequest request) {
+		try {
+			var player = playersService.createPlayer(request);
+			return new BulkPlayerResultTO(0, BulkPlayerStatus.CREATED, player.id(), player.first_name(),
+				player.last_name(), null);
+		} catch (ConflictException e) {
+			return new BulkPlayerResultTO(0, BulkPlayerStatus.CONFLICT, null, request.first_name().trim(),
+				request.last_name().trim(), e.getMessage());
+		}
+	}
+
+	private static int count(List<BulkPlayerResultTO> results, BulkPlayerStatus status) {
+		return (int) results.stream().filter(result -> result.status() == status).count();
+	}
+}
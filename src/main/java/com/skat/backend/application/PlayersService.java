@@ -1,18 +1,43 @@
 package com.skat.backend.application;
 
+import com.skat.backend.application.dto.BulkPlayerResultTO;
+import com.skat.backend.application.dto.DeletePlayersResponseTO;
 import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerRankTO;
 import com.skat.backend.application.dto.PlayerTO;
 import com.skat.backend.application.dto.PlayersQuery;
 import com.skat.backend.application.dto.UpsertPlayerRequest;
+import java.util.List;
 import java.util.UUID;
 
 public interface PlayersService {
 
 	PlayerListResponseTO listPlayers(PlayersQuery query);
 
+	PlayerRankTO getPlayerRank(UUID id, int neighbors);
+
 	PlayerTO createPlayer(UpsertPlayerRequest request);
 
+	/**
+	 * Creates a batch of valid players in one transaction. Names already taken (ignoring case), either by stored
+	 * players or by an earlier request of the batch, are reported as conflicts.
+	 *
+	 * @param requests validated player requests
+	 * @return one result per request in request order, indexed from 0
+	 */
+	List<BulkPlayerResultTO> createPlayers(List<UpsertPlayerRequest> requests);
+
 	PlayerTO updatePlayer(UUID id, UpsertPlayerRequest request);
 
 	void deletePlayer(UUID id, boolean forceDeletion);
+
+	/**
+	 * Deletes all given players at once. Without {@code forceDeletion} nothing is deleted if any of the players is
+	 * referenced in games or scores; with it, the references are set to NULL first.
+	 *
+	 * @param ids           players to delete; unknown ids are reported, not rejected
+	 * @param forceDeletion nullify references instead of rejecting referenced players
+	 * @return number of deleted players and the ids that did not exist
+	 */
+	DeletePlayersResponseTO deletePlayers(List<UUID> ids, boolean forceDeletion);
 }
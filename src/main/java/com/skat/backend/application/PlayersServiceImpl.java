@@ -2,25 +2,39 @@ package com.skat.backend.application;
 
 import com.skat.backend.api.exception.ConflictException;
 import com.skat.backend.api.exception.NotFoundException;
+import com.skat.backend.application.dto.BulkPlayerResultTO;
+import com.skat.backend.application.dto.BulkPlayerStatus;
+import com.skat.backend.application.dto.DeletePlayersResponseTO;
 import com.skat.backend.application.dto.PagingTO;
 import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerRankTO;
 import com.skat.backend.application.dto.PlayerTO;
 import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.PlayersCursor;
 import com.skat.backend.application.dto.PlayersQuery;
 import com.skat.backend.application.dto.PlayersSort;
 import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.events.PlayerChangedEvent;
+import com.skat.backend.application.events.PlayerDeletedEvent;
+import com.skat.backend.application.leaderboard.LeaderboardEntry;
+import com.skat.backend.application.leaderboard.LeaderboardService;
 import com.skat.backend.domain.entities.PlayerEntity;
-import com.skat.backend.domain.entities.PlayerScoreEntity;
+import com.skat.backend.domain.projections.PlayerWithScoreView;
 import com.skat.backend.domain.repositories.GameRepository;
 import com.skat.backend.domain.repositories.PlayerRepository;
 import com.skat.backend.domain.repositories.PlayerScoreRepository;
 import java.time.OffsetDateTime;
-import java.util.HashMap;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,70 +50,97 @@ public class PlayersServiceImpl implements PlayersService {
 	@Autowired
 	private PlayerScoreRepository playerScoreRepository;
 
+	@Autowired
+	private LeaderboardService leaderboardService;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
 	@Override
 	@Transactional(readOnly = true)
 	public PlayerListResponseTO listPlayers(PlayersQuery query) {
-		var pageable = PageRequest.of(query.startIndex() / query.pageSize(), query.pageSize());
+		var cursor = query.cursor() != null ? PlayersCursor.decode(query.cursor(), query.sort()) : null;
+		if (cursor != null && query.startIndex() > 0) {
+			throw new IllegalArgumentException("cursor and startIndex must not be combined");
+		}
 
-		// Fetch players based on sort
-		List<PlayerEntity> players;
-		if (query.sort() == PlayersSort.NAME) {
-			players = playerRepository.findAllOrderedByName(pageable);
+		List<PlayerWithScoreTO> items;
+		long total;
+		if (query.sort() == PlayersSort.SCORE_DESC && leaderboardService.isEnabled()) {
+			// Served from the in-memory leaderboard without a database round trip
+			var entries = cursor != null
+				? leaderboardService.pageAfter(cursor.totalPoints(), cursor.lastName(), cursor.firstName(),
+					cursor.id(), query.pageSize())
+				: leaderboardService.page(query.startIndex(), query.pageSize());
+			items = entries.stream()
+				.map(this::toPlayerWithScore)
+				.collect(Collectors.toList());
+			total = leaderboardService.size();
 		} else {
-			players = playerRepository.findAllPlayers(pageable);
+			// Scores are read from the player_current_score projection, so the cost depends on the page size only
+			List<PlayerWithScoreView> rows;
+			if (query.sort() == PlayersSort.SCORE_DESC) {
+				rows = cursor != null
+					? playerRepository.findAllOrderedByScoreAfter(cursor.totalPoints(), cursor.lastName(),
+						cursor.firstName(), cursor.id(), query.pageSize())
+					: playerRepository.findAllOrderedByScore(query.startIndex(), query.pageSize());
+			} else {
+				rows = cursor != null
+					? playerRepository.findAllOrderedByNameAfter(cursor.lastName(), cursor.firstName(), cursor.id(),
+						query.pageSize())
+					: playerRepository.findAllOrderedByName(query.startIndex(), query.pageSize());
+			}
+			items = rows.stream()
+				.map(this::toPlayerWithScore)
+				.collect(Collectors.toList());
+			total = playerRepository.count();
 		}
 
-		// Extract player IDs
-		var playerIds = players.stream()
-			.map(PlayerEntity::getId)
-			.collect(Collectors.toList());
+		var paging = new PagingTO(query.startIndex(), query.pageSize(), total);
 
-		// Fetch latest scores for these players
-		var latestScores = new HashMap<UUID, PlayerScoreEntity>();
-		if (!playerIds.isEmpty()) {
-			var scores = playerScoreRepository.findLatestScoresForPlayers(playerIds);
-			for (var score : scores) {
-				if (score.getPlayer() != null) {
-					latestScores.put(score.getPlayer().getId(), score);
-				}
-			}
+		// A full page may be followed by more players, so hand out the keyset position of its last entry
+		String nextCursor = null;
+		if (!items.isEmpty() && items.size() == query.pageSize()) {
+			var last = items.get(items.size() - 1);
+			nextCursor = new PlayersCursor(query.sort(), last.current_total_points(), last.last_name(),
+				last.first_name(), last.id()).encode();
 		}
 
-		// Map to DTOs
-		var items = players.stream()
-			.map(player -> {
-				var score = latestScores.get(player.getId());
-				var totalPoints = score != null ? score.getTotalPoints() : 0;
-				var sequenceIndex = score != null ? score.getSequenceIndex() : 0;
-				var updatedAt = score != null ? score.getCreatedAt() : OffsetDateTime.now();
-
-				return new PlayerWithScoreTO(
-					player.getId(),
-					player.getFirstName(),
-					player.getLastName(),
-					totalPoints,
-					sequenceIndex,
-					updatedAt);
-			})
-			.collect(Collectors.toList());
+		return new PlayerListResponseTO(items, paging, query.sort(), nextCursor);
+	}
 
-		// Sort by score if needed
-		if (query.sort() == PlayersSort.SCORE_DESC) {
-			items.sort((a, b) -> {
-				var scoreCompare = Integer.compare(b.current_total_points(), a.current_total_points());
-				if (scoreCompare != 0)
-					return scoreCompare;
-				var lastNameCompare = a.last_name().compareTo(b.last_name());
-				if (lastNameCompare != 0)
-					return lastNameCompare;
-				return a.first_name().compareTo(b.first_name());
-			});
+	@Override
+	@Transactional(readOnly = true)
+	public PlayerRankTO getPlayerRank(UUID id, int neighbors) {
+		if (leaderboardService.isEnabled()) {
+			var position = leaderboardService.position(id, neighbors)
+				.orElseThrow(() -> new NotFoundException("Player not found", "id"));
+			return new PlayerRankTO(
+				position.rank(),
+				position.total(),
+				toPlayerWithScore(position.entry()),
+				position.above().stream().map(this::toPlayerWithScore).collect(Collectors.toList()),
+				position.below().stream().map(this::toPlayerWithScore).collect(Collectors.toList()));
 		}
 
-		var total = playerRepository.count();
-		var paging = new PagingTO(query.startIndex(), query.pageSize(), total);
+		var player = playerRepository.findWithScoreById(id)
+			.orElseThrow(() -> new NotFoundException("Player not found", "id"));
+		var totalPoints = player.getTotalPoints() != null ? player.getTotalPoints() : 0;
+		var index = (int) playerRepository.countRankedBefore(totalPoints, player.getLastName(), player.getFirstName(),
+			id);
 
-		return new PlayerListResponseTO(items, paging, query.sort());
+		// The neighborhood is the score ordered window around the player's own position
+		var from = Math.max(0, index - neighbors);
+		var window = playerRepository.findAllOrderedByScore(from, index - from + 1 + neighbors).stream()
+			.map(this::toPlayerWithScore)
+			.collect(Collectors.toList());
+		var own = index - from;
+		return new PlayerRankTO(
+			index + 1,
+			playerRepository.count(),
+			toPlayerWithScore(player),
+			window.subList(0, Math.min(own, window.size())),
+			own + 1 < window.size() ? window.subList(own + 1, window.size()) : List.of());
 	}
 
 	@Override
@@ -108,18 +149,63 @@ public class PlayersServiceImpl implements PlayersService {
 		var firstName = request.first_name().trim();
 		var lastName = request.last_name().trim();
 
-		if (playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCase(firstName, lastName)) {
-			throw new ConflictException(
-				"Player with first_name+last_name already exists",
-				"first_name,last_name");
-		}
-
+		// The unique index on the lower-cased names detects duplicates within the single INSERT
 		var player = new PlayerEntity(firstName, lastName);
-		player = playerRepository.save(player);
+		try {
+			player = playerRepository.saveAndFlush(player);
+		} catch (DataIntegrityViolationException e) {
+			throw toConflictIfDuplicateName(e);
+		}
+		eventPublisher.publishEvent(new PlayerChangedEvent(player.getId(), player.getFirstName(), player.getLastName()));
 
 		return new PlayerTO(player.getId(), player.getFirstName(), player.getLastName());
 	}
 
+	@Override
+	@Transactional
+	public List<BulkPlayerResultTO> createPlayers(List<UpsertPlayerRequest> requests) {
+		var firstNames = requests.stream().map(request -> request.first_name().trim()).toArray(String[]::new);
+		var lastNames = requests.stream().map(request -> request.last_name().trim()).toArray(String[]::new);
+
+		// One lookup for the whole batch instead of an existence query per player. The database also folds the
+		// names of the batch, so repeated names are detected by the same rules as the unique index
+		var nameKeys = playerRepository.findNameKeys(firstNames, lastNames);
+
+		var batchNames = new HashSet<String>();
+		var results = new ArrayList<BulkPlayerResultTO>(requests.size());
+		var players = new ArrayList<PlayerEntity>();
+		for (var i = 0; i < requests.size(); i++) {
+			var firstName = firstNames[i];
+			var lastName = lastNames[i];
+			var key = nameKeys.get(i);
+			if (key.isTaken() || !batchNames.add(key.getFirstName() + '\u0000' + key.getLastName())) {
+				results.add(new BulkPlayerResultTO(results.size(), BulkPlayerStatus.CONFLICT, null, firstName, lastName,
+					"Player with first_name+last_name already exists"));
+				continue;
+			}
+			var player = new PlayerEntity(firstName, lastName);
+			players.add(player);
+			results.add(null);
+		}
+
+		// The ids are generated client-side, so the INSERTs are sent in JDBC batches (hibernate.jdbc.batch_size).
+		// A name taken concurrently since the lookup fails the flush and rolls back the whole batch.
+		playerRepository.saveAll(players);
+		playerRepository.flush();
+
+		var created = players.iterator();
+		for (var i = 0; i < results.size(); i++) {
+			if (results.get(i) == null) {
+				var player = created.next();
+				results.set(i, new BulkPlayerResultTO(i, BulkPlayerStatus.CREATED, player.getId(),
+					player.getFirstName(), player.getLastName(), null));
+				eventPublisher.publishEvent(
+					new PlayerChangedEvent(player.getId(), player.getFirstName(), player.getLastName()));
+			}
+		}
+		return results;
+	}
+
 	@Override
 	@Transactional
 	public PlayerTO updatePlayer(UUID id, UpsertPlayerRequest request) {
@@ -129,16 +215,15 @@ public class PlayersServiceImpl implements PlayersService {
 		var firstName = request.first_name().trim();
 		var lastName = request.last_name().trim();
 
-		// Check if the new name conflicts with another player
-		if (playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndIdNot(firstName, lastName, id)) {
-			throw new ConflictException(
-				"Player with first_name+last_name already exists",
-				"first_name,last_name");
-		}
-
+		// A name conflicting with another player is rejected by the unique index on flush
 		player.setFirstName(firstName);
 		player.setLastName(lastName);
-		player = playerRepository.save(player);
+		try {
+			player = playerRepository.saveAndFlush(player);
+		} catch (DataIntegrityViolationException e) {
+			throw toConflictIfDuplicateName(e);
+		}
+		eventPublisher.publishEvent(new PlayerChangedEvent(player.getId(), player.getFirstName(), player.getLastName()));
 
 		return new PlayerTO(player.getId(), player.getFirstName(), player.getLastName());
 	}
@@ -159,14 +244,75 @@ public class PlayersServiceImpl implements PlayersService {
 
 			playerRepository.delete(player);
 		} else {
-			// Force deletion: nullify references first
-			gameRepository.nullifyPlayer1References(id);
-			gameRepository.nullifyPlayer2References(id);
-			gameRepository.nullifyPlayer3References(id);
-			gameRepository.nullifyMainPlayerReferences(id);
-			playerScoreRepository.nullifyPlayerReferences(id);
+			// Force deletion: nullify references first, one statement per table
+			var playerIds = new UUID[] { id };
+			gameRepository.nullifyPlayerReferences(playerIds);
+			playerScoreRepository.nullifyPlayerReferences(playerIds);
 
 			playerRepository.delete(player);
 		}
+		eventPublisher.publishEvent(new PlayerDeletedEvent(id));
+	}
+
+	@Override
+	@Transactional
+	public DeletePlayersResponseTO deletePlayers(List<UUID> ids, boolean forceDeletion) {
+		var requested = new LinkedHashSet<>(ids);
+		var existing = new HashSet<>(playerRepository.findExistingIds(requested.toArray(UUID[]::new)));
+		var notFound = requested.stream()
+			.filter(id -> !existing.contains(id))
+			.toList();
+		if (existing.isEmpty()) {
+			return new DeletePlayersResponseTO(0, notFound);
+		}
+
+		// Every step is a single set-based statement for all players, whatever their number
+		var playerIds = existing.toArray(UUID[]::new);
+		if (!forceDeletion) {
+			if (gameRepository.existsByPlayerIdIn(playerIds) || playerScoreRepository.existsByPlayerIdIn(playerIds)) {
+				throw new ConflictException("At least one player is referenced in games or scores");
+			}
+		} else {
+			gameRepository.nullifyPlayerReferences(playerIds);
+			playerScoreRepository.nullifyPlayerReferences(playerIds);
+		}
+		var deleted = playerRepository.deleteAllByIds(playerIds);
+		existing.forEach(id -> eventPublisher.publishEvent(new PlayerDeletedEvent(id)));
+
+		return new DeletePlayersResponseTO(deleted, notFound);
+	}
+
+	private static RuntimeException toConflictIfDuplicateName(DataIntegrityViolationException e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation
+				&& PlayerRepository.NAME_UNIQUE_INDEX.equalsIgnoreCase(violation.getConstraintName())) {
+				return new ConflictException(
+					"Player with first_name+last_name already exists",
+					"first_name,last_name");
+			}
+		}
+		return e;
+	}
+
+	private PlayerWithScoreTO toPlayerWithScore(PlayerWithScoreView row) {
+		return new PlayerWithScoreTO(
+			row.getId(),
+			row.getFirstName(),
+			row.getLastName(),
+			row.getTotalPoints() != null ? row.getTotalPoints() : 0,
+			row.getSequenceIndex() != null ? row.getSequenceIndex() : 0,
+			row.getUpdatedAt() != null
+				? OffsetDateTime.ofInstant(row.getUpdatedAt(), ZoneId.systemDefault())
+				: OffsetDateTime.now());
+	}
+
+	private PlayerWithScoreTO toPlayerWithScore(LeaderboardEntry entry) {
+		return new PlayerWithScoreTO(
+			entry.playerId(),
+			entry.firstName(),
+			entry.lastName(),
+			entry.totalPoints(),
+			entry.sequenceIndex(),
+			entry.updatedAt() != null ? entry.updatedAt() : OffsetDateTime.now());
 	}
 }
@@ -0,0 +1,48 @@
+package com.skat.backend.application;
+
+import com.skat.backend.domain.repositories.PlayerRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Allocates the next {@code player_score.sequence_index} of players on the score write path.
+ * <p>
+ * The player_current_score row of every player acts as its sequence counter: allocating locks the rows
+ * ({@code SELECT ... FOR UPDATE}) in player id order and hands out {@code sequence_index + 1}. The insert trigger on
+ * player_score advances the counter in the same transaction, and concurrent writers of the same player wait for the
+ * lock, so the sequence of each player is strictly increasing and gap-free without reading the score history. The
+ * lock is held until the caller's transaction ends; a rollback releases it without consuming a number.
+ */
+@Component
+public class ScoreSequenceAllocator {
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	/**
+	 * Locks the counters of the given players and returns their next score slot. Players that do not exist are
+	 * missing from the result.
+	 *
+	 * @param playerIds distinct player ids
+	 * @return slot per player id
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public Map<UUID, ScoreSlot> allocate(Collection<UUID> playerIds) {
+		var slots = new HashMap<UUID, ScoreSlot>();
+		for (var row : playerRepository.lockAllWithScoreByIdIn(playerIds)) {
+			slots.put(row.getId(), new ScoreSlot(
+				row.getId(),
+				row.getFirstName(),
+				row.getLastName(),
+				row.getTotalPoints() != null ? row.getTotalPoints() : 0,
+				(row.getSequenceIndex() != null ? row.getSequenceIndex() : 0) + 1));
+		}
+		return slots;
+	}
+}
@@ -0,0 +1,15 @@
+package com.skat.backend.application;
+
+import java.util.UUID;
+
+/**
+ * Position reserved for the next score row of a player: the current total and the sequence index the new row must
+ * use.
+ */
+public record ScoreSlot(
+	UUID playerId,
+	String firstName,
+	String lastName,
+	int totalPoints,
+	int nextSequenceIndex) {
+}
@@ -0,0 +1,234 @@
+package com.skat.backend.application.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.UUID;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the database with a synthetic dataset for scale tests when the application is started with the
+ * {@code datagen} profile: {@code skat.datagen.players} players and {@code skat.datagen.games} games of
+ * {@link SyntheticGames}, each with the consistent cumulative score rows of its three players.
+ * <p>
+ * Rows are streamed with {@code COPY} in a single transaction. The row triggers are disabled meanwhile; the derived
+ * game_participant and player_current_score rows are filled afterwards with the set-based backfill statements of
+ * their migrations, which is much faster than one trigger call per row. A failed run leaves the database unchanged.
+ */
+@Component
+@Profile("datagen")
+@Slf4j
+public class DatasetGenerator implements ApplicationRunner {
+
+	private static final String[] FIRST_NAMES = { "Anna", "Max", "Lisa", "Paul", "Marie", "Felix", "Lena", "Jonas",
+		"Sophie", "Lukas", "Emma", "Leon", "Mia", "Finn", "Hannah", "Elias", "Lea", "Noah", "Laura", "Ben" };
+	private static final String[] LAST_NAMES = { "Mueller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer",
+		"Wagner", "Becker", "Schulz", "Hoffmann", "Koch", "Bauer", "Richter", "Klein", "Wolf", "Neumann", "Schwarz",
+		"Zimmermann", "Braun", "Krueger" };
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final long PROGRESS_INTERVAL = 1_000_000;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Value("${skat.datagen.players:100000}")
+	private int players;
+
+	@Value("${skat.datagen.games:10000000}")
+	private long games;
+
+	@Value("${skat.datagen.period:730d}")
+	private Duration period;
+
+	@Value("${skat.datagen.seed:42}")
+	private long seed;
+
+	@Value("${skat.datagen.truncate:false}")
+	private boolean truncate;
+
+	@Override
+	public void run(ApplicationArguments args) throws Exception {
+		generate();
+	}
+
+	public void generate() throws SQLException, IOException {
+		var startedAt = System.nanoTime();
+		var syntheticGames = new SyntheticGames(seed, players, games, Instant.now().truncatedTo(ChronoUnit.SECONDS),
+			period);
+		try (var connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			try {
+				prepare(connection);
+				var pg = connection.unwrap(PGConnection.class);
+				var playerIds = copyPlayers(pg);
+				copyGames(pg, syntheticGames, playerIds);
+				copyScores(pg, syntheticGames, playerIds);
+				derive(connection);
+				connection.commit();
+			} catch (SQLException | IOException | RuntimeException e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(true);
+			}
+			execute(connection, "ANALYZE player, game, game_participant, player_score, player_current_score");
+		}
+		log.info("Generated {} players, {} games and {} scores in {} s", players, games, 3 * games,
+			(System.nanoTime() - startedAt) / 1_000_000_000);
+	}
+
+	private void prepare(Connection connection) throws SQLException {
+		if (truncate) {
+			execute(connection, "TRUNCATE player_score, game_participant, game, player_current_score, player");
+		} else {
+			try (var statement = connection.createStatement();
+				var resultSet = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM player)")) {
+				resultSet.next();
+				if (resultSet.getBoolean(1)) {
+					throw new IllegalStateException(
+						"The database already contains players; set skat.datagen.truncate=true to replace them");
+				}
+			}
+		}
+		execute(connection, "ALTER TABLE player DISABLE TRIGGER player_current_score_init_TRG");
+		execute(connection, "ALTER TABLE game DISABLE TRIGGER game_participant_sync_TRG");
+		execute(connection, "ALTER TABLE player_score DISABLE TRIGGER player_current_score_apply_TRG");
+	}
+
+	private UUID[] copyPlayers(PGConnection pg) throws SQLException, IOException {
+		var random = new Random(~seed);
+		var playerIds = new UUID[players];
+		try (var out = copy(pg, "COPY player (id, first_name, last_name) FROM STDIN (FORMAT csv)")) {
+			for (var i = 0; i < players; i++) {
+				playerIds[i] = new UUID(random.nextLong(), random.nextLong());
+				// The running number keeps the names unique
+				out.append(playerIds[i].toString()).append(',')
+					.append(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]).append(',')
+					.append(LAST_NAMES[random.nextInt(LAST_NAMES.length)]).append('-').append(Integer.toString(i))
+					.append('\n');
+			}
+		}
+		log.info("Copied {} players", players);
+		return playerIds;
+	}
+
+	private void copyGames(PGConnection pg, SyntheticGames syntheticGames, UUID[] playerIds)
+		throws SQLException, IOException {
+		var count = 0L;
+		try (var out = copy(pg, "COPY game (id, player1_id, player2_id, player3_id, main_player_id, bid_value, "
+			+ "score, played_at) FROM STDIN (FORMAT csv)")) {
+			for (var game : syntheticGames) {
+				out.append(game.id().toString()).append(',')
+					.append(playerIds[game.seats()[0]].toString()).append(',')
+					.append(playerIds[game.seats()[1]].toString()).append(',')
+					.append(playerIds[game.seats()[2]].toString()).append(',')
+					.append(playerIds[game.main()].toString()).append(',')
+					.append(Integer.toString(game.bid())).append(',')
+					.append(Integer.toString(game.score())).append(',')
+					.append(game.playedAt().toString()).append('\n');
+				if (++count % PROGRESS_INTERVAL == 0) {
+					log.info("Copying games: {} done", count);
+				}
+			}
+		}
+		log.info("Copied {} games", count);
+	}
+
+	/**
+	 * Replays the games in order and writes one score row per seat with the player's next sequence index and new
+	 * cumulative total.
+	 */
+	private void copyScores(PGConnection pg, SyntheticGames syntheticGames, UUID[] playerIds)
+		throws SQLException, IOException {
+		var random = new Random(seed + 1);
+		var sequences = new int[players];
+		var totals = new int[players];
+		var count = 0L;
+		try (var out = copy(pg, "COPY player_score (id, player_id, game_id, sequence_index, total_points, "
+			+ "created_at) FROM STDIN (FORMAT csv)")) {
+			for (var game : syntheticGames) {
+				var gameId = game.id().toString();
+				var playedAt = game.playedAt().toString();
+				for (var seat : game.seats()) {
+					if (seat == game.main()) {
+						totals[seat] += game.score();
+					}
+					out.append(new UUID(random.nextLong(), random.nextLong()).toString()).append(',')
+						.append(playerIds[seat].toString()).append(',')
+						.append(gameId).append(',')
+						.append(Integer.toString(++sequences[seat])).append(',')
+						.append(Integer.toString(totals[seat])).append(',')
+						.append(playedAt).append('\n');
+				}
+				if (++count % PROGRESS_INTERVAL == 0) {
+					log.info("Copying scores: {} games done", count);
+				}
+			}
+		}
+		log.info("Copied {} scores", 3 * count);
+	}
+
+	/**
+	 * Fills the tables the disabled triggers would have maintained and turns the triggers back on.
+	 */
+	private void derive(Connection connection) throws SQLException {
+		execute(connection, """
+			INSERT INTO game_participant (game_id, player_id, seat, main_player, played_at)
+			SELECT g.id, seats.player_id, MIN(seats.seat),
+			       BOOL_OR(seats.player_id IS NOT DISTINCT FROM g.main_player_id), g.played_at
+			FROM game g
+			CROSS JOIN LATERAL (
+			    VALUES (g.player1_id, 1), (g.player2_id, 2), (g.player3_id, 3), (g.main_player_id, NULL)
+			) AS seats(player_id, seat)
+			WHERE seats.player_id IS NOT NULL
+			GROUP BY g.id, seats.player_id, g.played_at
+			""");
+		log.info("Derived game participants");
+		execute(connection, """
+			INSERT INTO player_current_score (player_id, last_name, first_name, total_points, sequence_index, updated_at)
+			SELECT p.id, p.last_name, p.first_name, COALESCE(latest.total_points, 0), COALESCE(latest.sequence_index, 0),
+			       latest.created_at
+			FROM player p
+			LEFT JOIN LATERAL (
+			    SELECT s.total_points, s.sequence_index, s.created_at
+			    FROM player_score s
+			    WHERE s.player_id = p.id
+			    ORDER BY s.sequence_index DESC
+			    LIMIT 1
+			) latest ON true
+			""");
+		log.info("Derived current scores");
+		execute(connection, "ALTER TABLE player ENABLE TRIGGER player_current_score_init_TRG");
+		execute(connection, "ALTER TABLE game ENABLE TRIGGER game_participant_sync_TRG");
+		execute(connection, "ALTER TABLE player_score ENABLE TRIGGER player_current_score_apply_TRG");
+	}
+
+	private static Writer copy(PGConnection pg, String sql) throws SQLException {
+		// Closing the writer ends the COPY
+		return new BufferedWriter(new OutputStreamWriter(new PGCopyOutputStream(pg, sql, BUFFER_SIZE),
+			StandardCharsets.UTF_8), BUFFER_SIZE);
+	}
+
+	private static void execute(Connection connection, String sql) throws SQLException {
+		try (var statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+}
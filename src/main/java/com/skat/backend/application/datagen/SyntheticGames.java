@@ -0,0 +1,88 @@
+package com.skat.backend.application.datagen;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic stream of synthetic Skat games. The same seed and sizes always produce the same games, so the
+ * generator can stream them once for the game rows and a second time for the score rows without keeping them in
+ * memory.
+ * <p>
+ * Games are spread evenly over the period before {@code end}. Players are picked with a skewed distribution, so a
+ * few players play many games as in real leagues. The main player wins about two thirds of the games and gains the
+ * game value, a lost game costs twice the value.
+ */
+public class SyntheticGames implements Iterable<SyntheticGames.Game> {
+
+	// Bids in order of frequency; the lower ones are far more common
+	private static final int[] BIDS = { 18, 20, 22, 23, 24, 27, 30, 33, 35, 36, 40, 44, 45, 46, 48, 50, 54, 55, 59,
+		60 };
+	private static final double WIN_RATE = 0.67;
+
+	private final long seed;
+	private final int players;
+	private final long games;
+	private final Instant start;
+	private final long spacingMillis;
+
+	public SyntheticGames(long seed, int players, long games, Instant end, Duration period) {
+		if (players < 3) {
+			throw new IllegalArgumentException("At least 3 players are needed, got " + players);
+		}
+		this.seed = seed;
+		this.players = players;
+		this.games = games;
+		this.start = end.minus(period);
+		this.spacingMillis = games == 0 ? 0 : Math.max(period.toMillis() / games, 1);
+	}
+
+	/**
+	 * @param seats indexes of the three seated players
+	 * @param main index of the main player, one of the seats
+	 * @param score points gained by the main player, negative for a lost game
+	 */
+	public record Game(UUID id, int[] seats, int main, int bid, int score, Instant playedAt) {
+	}
+
+	@Override
+	public Iterator<Game> iterator() {
+		var random = new Random(seed);
+		return new Iterator<>() {
+
+			private long next;
+
+			@Override
+			public boolean hasNext() {
+				return next < games;
+			}
+
+			@Override
+			public Game next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				var seats = new int[3];
+				seats[0] = player(random);
+				do {
+					seats[1] = player(random);
+				} while (seats[1] == seats[0]);
+				do {
+					seats[2] = player(random);
+				} while (seats[2] == seats[0] || seats[2] == seats[1]);
+				var bid = BIDS[(int) (BIDS.length * Math.pow(random.nextDouble(), 2))];
+				var value = bid + random.nextInt(bid / 2 + 1);
+				var score = random.nextDouble() < WIN_RATE ? value : -2 * value;
+				return new Game(new UUID(random.nextLong(), random.nextLong()), seats, seats[random.nextInt(3)], bid,
+					score, start.plusMillis(next++ * spacingMillis));
+			}
+		};
+	}
+
+	private int player(Random random) {
+		return (int) (players * Math.pow(random.nextDouble(), 1.5));
+	}
+}
@@ -0,0 +1,10 @@
+package com.skat.backend.application.dto;
+
+import java.util.List;
+
+public record BulkPlayerImportResponseTO(
+	int created,
+	int conflicts,
+	int invalid,
+	List<BulkPlayerResultTO> results) {
+}
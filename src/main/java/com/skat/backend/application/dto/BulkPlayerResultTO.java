@@ -0,0 +1,12 @@
+package com.skat.backend.application.dto;
+
+import java.util.UUID;
+
+public record BulkPlayerResultTO(
+	int index,
+	BulkPlayerStatus status,
+	UUID id,
+	String first_name,
+	String last_name,
+	String message) {
+}
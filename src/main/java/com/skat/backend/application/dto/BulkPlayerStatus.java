@@ -0,0 +1,7 @@
+package com.skat.backend.application.dto;
+
+public enum BulkPlayerStatus {
+	CREATED,
+	CONFLICT,
+	INVALID
+}
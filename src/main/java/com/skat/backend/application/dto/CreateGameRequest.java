@@ -0,0 +1,23 @@
+package com.skat.backend.application.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record CreateGameRequest(
+	@NotNull(message = "player1_id is required") UUID player1_id,
+
+	@NotNull(message = "player2_id is required") UUID player2_id,
+
+	@NotNull(message = "player3_id is required") UUID player3_id,
+
+	@NotNull(message = "main_player_id is required") UUID main_player_id,
+
+	@NotNull(message = "bid_value is required")
+	@Min(value = 18, message = "bid_value must be at least 18") Integer bid_value,
+
+	@NotNull(message = "score is required") Integer score,
+
+	@NotNull(message = "played_at is required") OffsetDateTime played_at) {
+}
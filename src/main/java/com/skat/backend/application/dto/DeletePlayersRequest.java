@@ -0,0 +1,13 @@
+package com.skat.backend.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record DeletePlayersRequest(
+	@NotEmpty(message = "ids must not be empty")
+	@Size(max = 10000, message = "ids must not contain more than 10000 entries")
+	List<@NotNull(message = "ids must not contain null") UUID> ids) {
+}
@@ -0,0 +1,9 @@
+package com.skat.backend.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DeletePlayersResponseTO(
+	int deleted,
+	List<UUID> not_found) {
+}
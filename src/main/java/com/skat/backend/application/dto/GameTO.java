@@ -0,0 +1,15 @@
+package com.skat.backend.application.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record GameTO(
+	UUID id,
+	UUID player1_id,
+	UUID player2_id,
+	UUID player3_id,
+	UUID main_player_id,
+	Integer bid_value,
+	Integer score,
+	OffsetDateTime played_at) {
+}
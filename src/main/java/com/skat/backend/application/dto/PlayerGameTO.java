@@ -0,0 +1,10 @@
+package com.skat.backend.application.dto;
+
+/**
+ * A game of a player's history together with the player's cumulative score after that game.
+ */
+public record PlayerGameTO(
+	GameTO game,
+	Integer sequence_index,
+	Integer total_points) {
+}
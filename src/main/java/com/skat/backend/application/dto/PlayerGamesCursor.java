@@ -0,0 +1,56 @@
+package com.skat.backend.application.dto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last game of a player's history page, handed to clients as an opaque URL-safe string. The
+ * next page continues with the games played before this one.
+ */
+public record PlayerGamesCursor(
+	Instant playedAt,
+	UUID gameId) {
+
+	private static final int VERSION = 1;
+
+	public String encode() {
+		var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(bytes)) {
+			out.writeByte(VERSION);
+			out.writeLong(playedAt.getEpochSecond());
+			out.writeInt(playedAt.getNano());
+			out.writeLong(gameId.getMostSignificantBits());
+			out.writeLong(gameId.getLeastSignificantBits());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * Decodes a cursor previously returned as {@code next_cursor}.
+	 *
+	 * @param cursor the opaque cursor string
+	 * @return the decoded keyset position
+	 * @throws IllegalArgumentException if the cursor is malformed
+	 */
+	public static PlayerGamesCursor decode(String cursor) {
+		try (var in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+			if (in.readByte() != VERSION) {
+				throw new IllegalArgumentException("Invalid cursor");
+			}
+			return new PlayerGamesCursor(
+				Instant.ofEpochSecond(in.readLong(), in.readInt()),
+				new UUID(in.readLong(), in.readLong()));
+		} catch (IOException | RuntimeException e) {
+			throw new IllegalArgumentException("Invalid cursor", e);
+		}
+	}
+}
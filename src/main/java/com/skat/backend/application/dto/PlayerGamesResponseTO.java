@@ -0,0 +1,8 @@
+package com.skat.backend.application.dto;
+
+import java.util.List;
+
+public record PlayerGamesResponseTO(
+	List<PlayerGameTO> items,
+	String next_cursor) {
+}
@@ -5,5 +5,6 @@ import java.util.List;
 public record PlayerListResponseTO(
 	List<PlayerWithScoreTO> items,
 	PagingTO paging,
-	PlayersSort sort) {
+	PlayersSort sort,
+	String next_cursor) {
 }
@@ -0,0 +1,11 @@
+package com.skat.backend.application.dto;
+
+import java.util.List;
+
+public record PlayerRankTO(
+	int rank,
+	long total_players,
+	PlayerWithScoreTO player,
+	List<PlayerWithScoreTO> above,
+	List<PlayerWithScoreTO> below) {
+}
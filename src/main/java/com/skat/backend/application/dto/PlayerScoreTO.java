@@ -0,0 +1,13 @@
+package com.skat.backend.application.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record PlayerScoreTO(
+	UUID id,
+	UUID player_id,
+	UUID game_id,
+	int sequence_index,
+	Integer total_points,
+	OffsetDateTime created_at) {
+}
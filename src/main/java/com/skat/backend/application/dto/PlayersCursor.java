@@ -0,0 +1,69 @@
+package com.skat.backend.application.dto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last player of a page. The cursor is handed to clients as an opaque URL-safe string and
+ * contains the complete sort key, so the next page continues right after this player without an offset scan.
+ */
+public record PlayersCursor(
+	PlayersSort sort,
+	int totalPoints,
+	String lastName,
+	String firstName,
+	UUID id) {
+
+	private static final int VERSION = 1;
+
+	public String encode() {
+		var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(bytes)) {
+			out.writeByte(VERSION);
+			out.writeUTF(sort.name());
+			out.writeInt(totalPoints);
+			out.writeUTF(lastName);
+			out.writeUTF(firstName);
+			out.writeLong(id.getMostSignificantBits());
+			out.writeLong(id.getLeastSignificantBits());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * Decodes a cursor previously returned as {@code next_cursor}.
+	 *
+	 * @param cursor the opaque cursor string
+	 * @param expectedSort the sort order of the current request
+	 * @return the decoded keyset position
+	 * @throws IllegalArgumentException if the cursor is malformed or was issued for a different sort order
+	 */
+	public static PlayersCursor decode(String cursor, PlayersSort expectedSort) {
+		PlayersCursor decoded;
+		try (var in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+			if (in.readByte() != VERSION) {
+				throw new IllegalArgumentException("Invalid cursor");
+			}
+			decoded = new PlayersCursor(
+				PlayersSort.valueOf(in.readUTF()),
+				in.readInt(),
+				in.readUTF(),
+				in.readUTF(),
+				new UUID(in.readLong(), in.readLong()));
+		} catch (IOException | IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid cursor", e);
+		}
+		if (decoded.sort() != expectedSort) {
+			throw new IllegalArgumentException("Cursor was issued for a different sort order");
+		}
+		return decoded;
+	}
+}
@@ -3,5 +3,6 @@ package com.skat.backend.application.dto;
 public record PlayersQuery(
 	int startIndex,
 	int pageSize,
-	PlayersSort sort) {
+	PlayersSort sort,
+	String cursor) {
 }
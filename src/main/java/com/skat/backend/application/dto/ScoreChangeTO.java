@@ -0,0 +1,12 @@
+package com.skat.backend.application.dto;
+
+import java.util.UUID;
+
+/**
+ * New current score of a player, pushed to the subscribers of the score stream.
+ */
+public record ScoreChangeTO(
+	UUID player_id,
+	int total_points,
+	int sequence_index) {
+}
@@ -0,0 +1,9 @@
+package com.skat.backend.application.dto;
+
+import java.util.List;
+
+public record SlowQueriesTO(
+	long threshold_ms,
+	List<SlowQueryTO> slowest,
+	List<SlowQueryTO> explained) {
+}
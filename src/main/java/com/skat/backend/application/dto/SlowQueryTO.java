@@ -0,0 +1,17 @@
+package com.skat.backend.application.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Statement that ran longer than the slow query threshold. The parameters are those of the first execution of a
+ * batch; plan is the output of {@code EXPLAIN (ANALYZE, BUFFERS)} for sampled statements and null otherwise.
+ */
+public record SlowQueryTO(
+	String sql,
+	List<String> parameters,
+	int batch_size,
+	long elapsed_ms,
+	OffsetDateTime executed_at,
+	String plan) {
+}
@@ -0,0 +1,12 @@
+package com.skat.backend.application.events;
+
+import java.util.UUID;
+
+/**
+ * Published when a player was created or renamed.
+ */
+public record PlayerChangedEvent(
+	UUID playerId,
+	String firstName,
+	String lastName) {
+}
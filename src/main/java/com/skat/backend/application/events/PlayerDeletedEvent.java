@@ -0,0 +1,10 @@
+package com.skat.backend.application.events;
+
+import java.util.UUID;
+
+/**
+ * Published when a player was deleted.
+ */
+public record PlayerDeletedEvent(
+	UUID playerId) {
+}
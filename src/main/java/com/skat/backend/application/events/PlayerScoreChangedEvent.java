@@ -0,0 +1,16 @@
+package com.skat.backend.application.events;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Published for every new cumulative score row of a player.
+ */
+public record PlayerScoreChangedEvent(
+	UUID playerId,
+	String firstName,
+	String lastName,
+	int totalPoints,
+	int sequenceIndex,
+	OffsetDateTime createdAt) {
+}
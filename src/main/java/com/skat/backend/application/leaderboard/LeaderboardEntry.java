@@ -0,0 +1,17 @@
+package com.skat.backend.application.leaderboard;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Current score snapshot of a player as kept by the {@link LeaderboardService}. {@code updatedAt} is {@code null} for
+ * players without any score yet.
+ */
+public record LeaderboardEntry(
+	UUID playerId,
+	String firstName,
+	String lastName,
+	int totalPoints,
+	int sequenceIndex,
+	OffsetDateTime updatedAt) {
+}
@@ -0,0 +1,20 @@
+package com.skat.backend.application.leaderboard;
+
+import java.util.List;
+
+/**
+ * Rank of a player together with the players ranked directly above and below.
+ *
+ * @param rank one-based rank
+ * @param total number of ranked players
+ * @param entry the player's own entry
+ * @param above players ranked directly above, best first
+ * @param below players ranked directly below, best first
+ */
+public record LeaderboardPosition(
+	int rank,
+	int total,
+	LeaderboardEntry entry,
+	List<LeaderboardEntry> above,
+	List<LeaderboardEntry> below) {
+}
@@ -0,0 +1,283 @@
+package com.skat.backend.application.leaderboard;
+
+import com.skat.backend.application.events.PlayerChangedEvent;
+import com.skat.backend.application.events.PlayerDeletedEvent;
+import com.skat.backend.application.events.PlayerScoreChangedEvent;
+import com.skat.backend.domain.projections.PlayerWithScoreView;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory leaderboard holding the current score of every player in an {@link OrderStatisticTree}. It is loaded once
+ * before the application accepts requests and kept up to date by the player and score events published after each
+ * committed write, so score ordered pages and rank lookups cost O(log n) without touching the database.
+ * <p>
+ * The ranking order matches the database listing: total points descending, then last name, first name and id. Names
+ * are compared by code point, which is the byte order of the {@code "C"} collation of the copied names in
+ * {@code player_current_score}, and ids as unsigned bytes like the PostgreSQL {@code uuid} type. A cursor handed out
+ * by either side therefore continues at the same position on the other.
+ */
+@Service
+@Slf4j
+public class LeaderboardService implements SmartInitializingSingleton {
+
+	static final Comparator<LeaderboardEntry> RANKING = Comparator
+		.comparingInt(LeaderboardEntry::totalPoints).reversed()
+		.thenComparing(LeaderboardEntry::lastName, LeaderboardService::compareCodePoints)
+		.thenComparing(LeaderboardEntry::firstName, LeaderboardService::compareCodePoints)
+		.thenComparing(LeaderboardEntry::playerId, LeaderboardService::compareUnsigned);
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Value("${skat.leaderboard.enabled:true}")
+	private boolean enabled;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<UUID, LeaderboardEntry> entries = new HashMap<>();
+	private final OrderStatisticTree<LeaderboardEntry> ranking = new OrderStatisticTree<>(RANKING);
+
+	// Serializes reloads, so at most one journal is open
+	private final Object reloadMonitor = new Object();
+	// Events applied while a reload reads the database, re-applied on top of its snapshot; guarded by lock
+	private List<Object> reloadJournal;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (enabled) {
+			reload();
+		}
+	}
+
+	/**
+	 * @return {@code true} if score ordered reads are served from memory
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Replaces the in-memory state with the current scores stored in the database. Needed only after data was written
+	 * without going through the application services.
+	 * <p>
+	 * The database is read without holding the lock, so score ordered reads keep being served meanwhile. Events
+	 * applied during the read may be missing from its snapshot; they are journaled and applied again after the swap.
+	 */
+	public void reload() {
+		synchronized (reloadMonitor) {
+			setReloadJournal(new ArrayList<>());
+			List<PlayerWithScoreView> rows;
+			try {
+				rows = playerRepository.findAllWithScore();
+			} catch (RuntimeException e) {
+				setReloadJournal(null);
+				throw e;
+			}
+
+			lock.writeLock().lock();
+			try {
+				entries.clear();
+				ranking.clear();
+				for (var row : rows) {
+					put(new LeaderboardEntry(
+						row.getId(),
+						row.getFirstName(),
+						row.getLastName(),
+						row.getTotalPoints() != null ? row.getTotalPoints() : 0,
+						row.getSequenceIndex() != null ? row.getSequenceIndex() : 0,
+						row.getUpdatedAt() != null
+							? OffsetDateTime.ofInstant(row.getUpdatedAt(), ZoneId.systemDefault())
+							: null));
+				}
+				var journal = reloadJournal;
+				reloadJournal = null;
+				// In delivery order; score events carry their sequence index, so one already in the snapshot is
+				// skipped as outdated
+				journal.forEach(this::apply);
+			} finally {
+				lock.writeLock().unlock();
+			}
+			log.info("Loaded leaderboard with {} players", rows.size());
+		}
+	}
+
+	private void setReloadJournal(List<Object> journal) {
+		lock.writeLock().lock();
+		try {
+			reloadJournal = journal;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return ranking.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the entries at positions {@code [startIndex, startIndex + limit)} of the ranking.
+	 */
+	public List<LeaderboardEntry> page(int startIndex, int limit) {
+		lock.readLock().lock();
+		try {
+			return ranking.range(startIndex, startIndex + limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns up to {@code limit} entries ranked after the given sort key.
+	 */
+	public List<LeaderboardEntry> pageAfter(int totalPoints, String lastName, String firstName, UUID playerId,
+		int limit) {
+		var key = new LeaderboardEntry(playerId, firstName, lastName, totalPoints, 0, null);
+		lock.readLock().lock();
+		try {
+			var startIndex = ranking.countAtMost(key);
+			return ranking.range(startIndex, startIndex + limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the rank of a player and up to {@code neighbors} players directly above and below.
+	 */
+	public Optional<LeaderboardPosition> position(UUID playerId, int neighbors) {
+		lock.readLock().lock();
+		try {
+			var entry = entries.get(playerId);
+			if (entry == null) {
+				return Optional.empty();
+			}
+			var index = ranking.countLessThan(entry);
+			return Optional.of(new LeaderboardPosition(
+				index + 1,
+				ranking.size(),
+				entry,
+				ranking.range(index - neighbors, index),
+				ranking.range(index + 1, index + 1 + neighbors)));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPlayerChanged(PlayerChangedEvent event) {
+		applyAndJournal(event);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPlayerDeleted(PlayerDeletedEvent event) {
+		applyAndJournal(event);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPlayerScoreChanged(PlayerScoreChangedEvent event) {
+		applyAndJournal(event);
+	}
+
+	private void applyAndJournal(Object event) {
+		if (!enabled) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			apply(event);
+			if (reloadJournal != null) {
+				reloadJournal.add(event);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void apply(Object event) {
+		switch (event) {
+			case PlayerChangedEvent changed -> {
+				var current = entries.get(changed.playerId());
+				put(current != null
+					? new LeaderboardEntry(changed.playerId(), changed.firstName(), changed.lastName(),
+						current.totalPoints(), current.sequenceIndex(), current.updatedAt())
+					: new LeaderboardEntry(changed.playerId(), changed.firstName(), changed.lastName(), 0, 0, null));
+			}
+			case PlayerDeletedEvent deleted -> {
+				var current = entries.remove(deleted.playerId());
+				if (current != null) {
+					ranking.remove(current);
+				}
+			}
+			case PlayerScoreChangedEvent scored -> {
+				var current = entries.get(scored.playerId());
+				// Commits of concurrent games may be delivered out of order; keep the latest score only
+				if (current != null && current.updatedAt() != null
+					&& current.sequenceIndex() > scored.sequenceIndex()) {
+					return;
+				}
+				put(new LeaderboardEntry(
+					scored.playerId(),
+					current != null ? current.firstName() : scored.firstName(),
+					current != null ? current.lastName() : scored.lastName(),
+					scored.totalPoints(),
+					scored.sequenceIndex(),
+					scored.createdAt()));
+			}
+			default -> throw new IllegalArgumentException("Unexpected event " + event);
+		}
+	}
+
+	private void put(LeaderboardEntry entry) {
+		var previous = entries.put(entry.playerId(), entry);
+		if (previous != null) {
+			ranking.remove(previous);
+		}
+		ranking.add(entry);
+	}
+
+	/**
+	 * Compares by Unicode code point, the order of the UTF-8 bytes. {@link String#compareTo} compares UTF-16 units
+	 * and differs for characters outside the Basic Multilingual Plane.
+	 */
+	static int compareCodePoints(String a, String b) {
+		int i = 0;
+		while (i < a.length() && i < b.length()) {
+			int codePointA = a.codePointAt(i);
+			int codePointB = b.codePointAt(i);
+			if (codePointA != codePointB) {
+				return Integer.compare(codePointA, codePointB);
+			}
+			i += Character.charCount(codePointA);
+		}
+		return Integer.compare(a.length(), b.length());
+	}
+
+	/**
+	 * Compares the 16 bytes of the ids unsigned; {@link UUID#compareTo} compares signed longs.
+	 */
+	static int compareUnsigned(UUID a, UUID b) {
+		int mostSignificant = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+		return mostSignificant != 0 ? mostSignificant
+			: Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+	}
+}
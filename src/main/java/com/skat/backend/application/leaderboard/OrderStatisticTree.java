@@ -0,0 +1,188 @@
+package com.skat.backend.application.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Sorted multiset with positional access, implemented as a treap whose nodes are augmented with their subtree size.
+ * Insertion, removal, lookup by index and rank of a value take O(log n) expected time. The tree is not thread-safe;
+ * callers synchronize access.
+ *
+ * @param <T> element type, ordered by the given comparator
+ */
+class OrderStatisticTree<T> {
+
+	private final Comparator<? super T> comparator;
+	private final SplittableRandom random = new SplittableRandom();
+	private Node<T> root;
+
+	OrderStatisticTree(Comparator<? super T> comparator) {
+		this.comparator = comparator;
+	}
+
+	int size() {
+		return size(root);
+	}
+
+	void clear() {
+		root = null;
+	}
+
+	void add(T value) {
+		var parts = split(root, value, false);
+		root = merge(merge(parts.left, new Node<>(value, random.nextInt())), parts.right);
+	}
+
+	/**
+	 * Removes one element comparing equal to the given value.
+	 *
+	 * @return {@code true} if an element was removed
+	 */
+	boolean remove(T value) {
+		var lower = split(root, value, false);
+		var equal = split(lower.right, value, true);
+		var removed = equal.left != null;
+		var remaining = removed ? merge(equal.left.left, equal.left.right) : null;
+		root = merge(merge(lower.left, remaining), equal.right);
+		return removed;
+	}
+
+	/**
+	 * Returns the element at the given zero-based position in sort order.
+	 */
+	T get(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException(index);
+		}
+		var node = root;
+		while (true) {
+			var leftSize = size(node.left);
+			if (index < leftSize) {
+				node = node.left;
+			} else if (index == leftSize) {
+				return node.value;
+			} else {
+				index -= leftSize + 1;
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of elements ordered strictly before the given value.
+	 */
+	int countLessThan(T value) {
+		return count(value, false);
+	}
+
+	/**
+	 * Returns the number of elements ordered before or equal to the given value.
+	 */
+	int countAtMost(T value) {
+		return count(value, true);
+	}
+
+	/**
+	 * Returns the elements at positions {@code [fromIndex, toIndex)} in sort order; out-of-range bounds are clamped.
+	 */
+	List<T> range(int fromIndex, int toIndex) {
+		var from = Math.max(0, fromIndex);
+		var to = Math.min(size(), toIndex);
+		var result = new ArrayList<T>(Math.max(0, to - from));
+		collect(root, 0, from, to, result);
+		return result;
+	}
+
+	private int count(T value, boolean inclusive) {
+		var count = 0;
+		var node = root;
+		while (node != null) {
+			var cmp = comparator.compare(node.value, value);
+			if (cmp < 0 || (inclusive && cmp == 0)) {
+				count += size(node.left) + 1;
+				node = node.right;
+			} else {
+				node = node.left;
+			}
+		}
+		return count;
+	}
+
+	private void collect(Node<T> node, int offset, int from, int to, List<T> result) {
+		if (node == null || offset >= to || offset + node.size <= from) {
+			return;
+		}
+		collect(node.left, offset, from, to, result);
+		var position = offset + size(node.left);
+		if (position >= from && position < to) {
+			result.add(node.value);
+		}
+		collect(node.right, position + 1, from, to, result);
+	}
+
+	/**
+	 * Splits the subtree into elements ordered before the value (or before and equal, if inclusive) and the rest.
+	 */
+	private Split<T> split(Node<T> node, T value, boolean inclusive) {
+		if (node == null) {
+			return new Split<>(null, null);
+		}
+		var cmp = comparator.compare(node.value, value);
+		if (cmp < 0 || (inclusive && cmp == 0)) {
+			var parts = split(node.right, value, inclusive);
+			node.right = parts.left;
+			node.update();
+			return new Split<>(node, parts.right);
+		}
+		var parts = split(node.left, value, inclusive);
+		node.left = parts.right;
+		node.update();
+		return new Split<>(parts.left, node);
+	}
+
+	/**
+	 * Merges two subtrees where every element of {@code left} is ordered before every element of {@code right}.
+	 */
+	private Node<T> merge(Node<T> left, Node<T> right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		}
+		right.left = merge(left, right.left);
+		right.update();
+		return right;
+	}
+
+	private static int size(Node<?> node) {
+		return node != null ? node.size : 0;
+	}
+
+	private record Split<T>(Node<T> left, Node<T> right) {
+	}
+
+	private static final class Node<T> {
+		private final T value;
+		private final int priority;
+		private int size = 1;
+		private Node<T> left;
+		private Node<T> right;
+
+		private Node(T value, int priority) {
+			this.value = value;
+			this.priority = priority;
+		}
+
+		private void update() {
+			size = 1 + size(left) + size(right);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.skat.backend.application.leaderboard;
+
+import com.skat.backend.application.dto.ScoreChangeTO;
+import com.skat.backend.application.events.PlayerScoreChangedEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans the committed score changes out to the clients of the score stream. Every change is offered to the bounded,
+ * coalescing buffer of each subscriber; a subscriber with pending changes is drained by its own sender task on a
+ * virtual thread, so a slow connection delays only its own client and never the write path.
+ */
+@Service
+@Slf4j
+public class ScoreStreamService {
+
+	@Value("${skat.stream.buffer-size:1000}")
+	private int bufferSize;
+
+	@Value("${skat.stream.timeout:30m}")
+	private Duration timeout;
+
+	private final Set<ScoreStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+	private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+	/**
+	 * Registers a new client. The connection is closed after the configured timeout; clients reconnect and reload the
+	 * listing.
+	 */
+	public SseEmitter subscribe() {
+		var emitter = new SseEmitter(timeout.toMillis());
+		try {
+			// Commits the response headers right away instead of with the first score change
+			emitter.send(SseEmitter.event().comment("connected"));
+		} catch (IOException e) {
+			emitter.completeWithError(e);
+			return emitter;
+		}
+		var subscriber = new ScoreStreamSubscriber(emitter, bufferSize);
+		subscribers.add(subscriber);
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(e -> remove(subscriber));
+		log.debug("Score stream subscriber added, {} connected", subscribers.size());
+		return emitter;
+	}
+
+	public int subscriberCount() {
+		return subscribers.size();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPlayerScoreChanged(PlayerScoreChangedEvent event) {
+		var change = new ScoreChangeTO(event.playerId(), event.totalPoints(), event.sequenceIndex());
+		for (var subscriber : subscribers) {
+			if (subscriber.offer(change)) {
+				sender.execute(() -> {
+					if (!subscriber.drain()) {
+						remove(subscriber);
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Ends the open streams before the web server shuts down gracefully, which would otherwise wait for them until
+	 * its timeout.
+	 */
+	@EventListener(ContextClosedEvent.class)
+	public void shutdown() {
+		subscribers.forEach(subscriber -> subscriber.emitter().complete());
+		sender.shutdownNow();
+	}
+
+	private void remove(ScoreStreamSubscriber subscriber) {
+		subscriber.close();
+		subscribers.remove(subscriber);
+	}
+}
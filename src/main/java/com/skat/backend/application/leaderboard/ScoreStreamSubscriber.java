@@ -0,0 +1,104 @@
+package com.skat.backend.application.leaderboard;
+
+import com.skat.backend.application.dto.ScoreChangeTO;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pending score changes of one score stream client. Changes are buffered per player, so a newer change replaces a
+ * change that was not sent yet, and at most {@code capacity} players are pending. A client falling further behind
+ * loses its pending changes and receives a {@code resync} event instead, after which it reloads the listing.
+ * <p>
+ * Offering never blocks; only the single drain task of the subscriber writes to the connection.
+ */
+class ScoreStreamSubscriber {
+
+	static final String SCORE_EVENT = "score";
+	static final String RESYNC_EVENT = "resync";
+
+	private final SseEmitter emitter;
+	private final int capacity;
+	private final Map<UUID, ScoreChangeTO> pending = new LinkedHashMap<>();
+	private boolean overflowed;
+	private boolean draining;
+	private boolean closed;
+
+	ScoreStreamSubscriber(SseEmitter emitter, int capacity) {
+		this.emitter = emitter;
+		this.capacity = capacity;
+	}
+
+	SseEmitter emitter() {
+		return emitter;
+	}
+
+	/**
+	 * Buffers a change for delivery.
+	 *
+	 * @return {@code true} if the caller has to schedule {@link #drain()}
+	 */
+	synchronized boolean offer(ScoreChangeTO change) {
+		if (closed) {
+			return false;
+		}
+		var previous = pending.get(change.player_id());
+		// Commits of concurrent games may be delivered out of order; keep the latest score only
+		if (previous != null && previous.sequence_index() > change.sequence_index()) {
+			return false;
+		}
+		if (previous == null && pending.size() >= capacity) {
+			pending.clear();
+			overflowed = true;
+		} else {
+			pending.put(change.player_id(), change);
+		}
+		if (draining) {
+			return false;
+		}
+		draining = true;
+		return true;
+	}
+
+	/**
+	 * Sends the pending changes until none are left.
+	 *
+	 * @return {@code false} if the connection failed and the subscriber is closed
+	 */
+	boolean drain() {
+		while (true) {
+			ArrayList<ScoreChangeTO> batch;
+			boolean resync;
+			synchronized (this) {
+				if (closed || (pending.isEmpty() && !overflowed)) {
+					draining = false;
+					return !closed;
+				}
+				batch = new ArrayList<>(pending.values());
+				pending.clear();
+				resync = overflowed;
+				overflowed = false;
+			}
+			try {
+				if (resync) {
+					emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+				}
+				for (var change : batch) {
+					emitter.send(SseEmitter.event().name(SCORE_EVENT).data(change, MediaType.APPLICATION_JSON));
+				}
+			} catch (IOException | IllegalStateException e) {
+				close();
+				return false;
+			}
+		}
+	}
+
+	synchronized void close() {
+		closed = true;
+		pending.clear();
+	}
+}
@@ -0,0 +1,104 @@
+package com.skat.backend.application.profiling;
+
+import com.skat.backend.application.dto.DeletePlayersResponseTO;
+import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerRankTO;
+import com.skat.backend.application.dto.PlayersQuery;
+import java.util.Collection;
+import java.util.Optional;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits a {@link ServiceCallEvent} around every {@code PlayersService} call and a {@link RepositoryCallEvent} around
+ * every repository invocation, failed calls included. Events are only filled in and committed while a recording has
+ * them enabled, so the advice costs next to nothing otherwise. The aspect runs outermost, so service events include
+ * the commit of the transaction.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FlightRecorderAspect {
+
+	@Around("execution(* com.skat.backend.application.PlayersService.*(..))")
+	public Object recordServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+		var event = new ServiceCallEvent();
+		event.begin();
+		Object result = null;
+		try {
+			result = joinPoint.proceed();
+			return result;
+		} finally {
+			if (event.shouldCommit()) {
+				event.service = interfaceName(joinPoint);
+				event.method = joinPoint.getSignature().getName();
+				for (var arg : joinPoint.getArgs()) {
+					if (arg instanceof PlayersQuery query) {
+						event.pageSize = query.pageSize();
+						event.sort = query.sort() != null ? query.sort().name() : null;
+						event.keyset = query.cursor() != null;
+					} else if (arg instanceof Boolean forced) {
+						event.forced = forced;
+					}
+				}
+				event.rows = serviceRows(result);
+				event.commit();
+			}
+		}
+	}
+
+	@Around("target(org.springframework.data.repository.Repository)")
+	public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+		var event = new RepositoryCallEvent();
+		event.begin();
+		Object result = null;
+		try {
+			result = joinPoint.proceed();
+			return result;
+		} finally {
+			if (event.shouldCommit()) {
+				event.repository = interfaceName(joinPoint);
+				event.method = joinPoint.getSignature().getName();
+				event.rows = repositoryRows(result);
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Names the called interface rather than the implementation; for repositories the target is the Spring Data
+	 * proxy, whose first interface is the repository interface.
+	 */
+	private static String interfaceName(ProceedingJoinPoint joinPoint) {
+		var interfaces = joinPoint.getTarget().getClass().getInterfaces();
+		return interfaces.length > 0
+			? interfaces[0].getSimpleName()
+			: joinPoint.getSignature().getDeclaringType().getSimpleName();
+	}
+
+	private static int serviceRows(Object result) {
+		return switch (result) {
+			case PlayerListResponseTO list -> list.items().size();
+			case PlayerRankTO rank -> 1 + rank.above().size() + rank.below().size();
+			case DeletePlayersResponseTO deleted -> deleted.deleted();
+			case Collection<?> collection -> collection.size();
+			case null, default -> -1;
+		};
+	}
+
+	private static int repositoryRows(Object result) {
+		return switch (result) {
+			case Collection<?> collection -> collection.size();
+			case Slice<?> slice -> slice.getNumberOfElements();
+			case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+			// The only int results are the row counts of @Modifying statements
+			case Integer modified -> modified;
+			case null, default -> -1;
+		};
+	}
+}
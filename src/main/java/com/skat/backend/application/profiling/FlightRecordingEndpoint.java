@@ -0,0 +1,104 @@
+package com.skat.backend.application.profiling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint controlling a Flight Recorder recording of this instance at {@code /actuator/flightrecording}:
+ * <ul>
+ * <li>{@code POST} starts a recording with the JDK "profile" settings plus the Skat service and repository events
+ * ({@link ServiceCallEvent}, {@link RepositoryCallEvent})</li>
+ * <li>{@code GET} downloads a snapshot of the running recording as a {@code .jfr} file</li>
+ * <li>{@code DELETE} stops and discards the recording</li>
+ * </ul>
+ * The recording keeps the events of the last {@code skat.jfr.max-age} only.
+ */
+@Component
+@Endpoint(id = "flightrecording")
+@Slf4j
+public class FlightRecordingEndpoint {
+
+	@Value("${skat.jfr.max-age:30m}")
+	private Duration maxAge;
+
+	// A lock instead of synchronized: dumping writes a file, which would pin a virtual thread to its carrier
+	private final ReentrantLock lock = new ReentrantLock();
+	private Recording recording;
+
+	@WriteOperation
+	public Map<String, Object> start() throws IOException, ParseException {
+		lock.lock();
+		try {
+			if (recording == null || recording.getState() != RecordingState.RUNNING) {
+				recording = new Recording(Configuration.getConfiguration("profile"));
+				recording.setName("skat");
+				recording.setToDisk(true);
+				recording.setMaxAge(maxAge);
+				recording.enable(ServiceCallEvent.class);
+				recording.enable(RepositoryCallEvent.class);
+				recording.start();
+				log.info("Started flight recording {}", recording.getId());
+			}
+			return status();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@ReadOperation(produces = "application/octet-stream")
+	public Resource dump() throws IOException {
+		lock.lock();
+		try {
+			if (recording == null || recording.getState() != RecordingState.RUNNING) {
+				return null;
+			}
+			var file = Files.createTempFile("skat-", ".jfr");
+			recording.dump(file);
+			// The snapshot is removed once the response has been written
+			return new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@DeleteOperation
+	public void stop() {
+		lock.lock();
+		try {
+			if (recording != null) {
+				recording.close();
+				log.info("Stopped flight recording {}", recording.getId());
+				recording = null;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private Map<String, Object> status() {
+		var status = new LinkedHashMap<String, Object>();
+		status.put("id", recording.getId());
+		status.put("state", recording.getState().name());
+		status.put("started", recording.getStartTime());
+		status.put("max_age", maxAge.toString());
+		return status;
+	}
+}
@@ -0,0 +1,29 @@
+package com.skat.backend.application.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one Spring Data repository invocation.
+ */
+@Name("com.skat.RepositoryCall")
+@Label("Repository Call")
+@Category({ "Skat", "Repository" })
+@Description("Invocation of a Spring Data repository method")
+@StackTrace(false)
+class RepositoryCallEvent extends Event {
+
+	@Label("Repository")
+	String repository;
+
+	@Label("Method")
+	String method;
+
+	@Label("Rows")
+	@Description("Rows returned or modified; -1 if not known when the method returns, e.g. for streams")
+	int rows = -1;
+}
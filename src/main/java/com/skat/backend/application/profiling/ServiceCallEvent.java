@@ -0,0 +1,44 @@
+package com.skat.backend.application.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one call of an application service method, including its transaction.
+ */
+@Name("com.skat.ServiceCall")
+@Label("Service Call")
+@Category({ "Skat", "Service" })
+@Description("Call of an application service method")
+@StackTrace(false)
+class ServiceCallEvent extends Event {
+
+	@Label("Service")
+	String service;
+
+	@Label("Method")
+	String method;
+
+	@Label("Rows")
+	@Description("Players returned, created or deleted; -1 if not applicable")
+	int rows = -1;
+
+	@Label("Page Size")
+	@Description("Requested page size of listings; -1 if not applicable")
+	int pageSize = -1;
+
+	@Label("Sort")
+	String sort;
+
+	@Label("Keyset")
+	@Description("Listing continued from a cursor instead of an offset")
+	boolean keyset;
+
+	@Label("Forced")
+	@Description("Deletion with forceDeletion=true")
+	boolean forced;
+}
@@ -0,0 +1,30 @@
+package com.skat.backend.application.profiling;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application data source with a datasource-proxy that times every statement for the {@link SlowQueryLog}.
+ * The log is looked up lazily, as post processors are created before regular beans.
+ */
+@Component
+public class SlowQueryDataSourceWrapper implements BeanPostProcessor {
+
+	@Autowired
+	private ObjectProvider<SlowQueryLog> slowQueryLog;
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+			return ProxyDataSourceBuilder.create(beanName, dataSource)
+				.listener(new SlowQueryListener(dataSource, slowQueryLog))
+				.build();
+		}
+		return bean;
+	}
+}
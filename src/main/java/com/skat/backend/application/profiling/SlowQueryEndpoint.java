@@ -0,0 +1,30 @@
+package com.skat.backend.application.profiling;
+
+import com.skat.backend.application.dto.SlowQueriesTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint at {@code /actuator/slowqueries} listing the slowest statements and the sampled plans of the
+ * {@link SlowQueryLog}; {@code DELETE} resets it, e.g. before reproducing a problem.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+	@Autowired
+	private SlowQueryLog slowQueryLog;
+
+	@ReadOperation
+	public SlowQueriesTO slowQueries() {
+		return slowQueryLog.snapshot();
+	}
+
+	@DeleteOperation
+	public void clear() {
+		slowQueryLog.clear();
+	}
+}
@@ -0,0 +1,101 @@
+package com.skat.backend.application.profiling;
+
+import com.skat.backend.application.dto.SlowQueryTO;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Passes every statement slower than the threshold with its bound parameters to the {@link SlowQueryLog} and
+ * captures the plan of the sampled ones. Plans are taken on a connection of the unwrapped data source, in a read-only
+ * transaction that is rolled back, so they are neither recorded themselves nor able to change data. The transaction
+ * is made read-only by statement rather than {@link java.sql.Connection#setReadOnly}, which would route the connection
+ * to a read replica; plans are always taken on the primary.
+ */
+class SlowQueryListener implements QueryExecutionListener {
+
+	private static final int MAX_PARAMETER_LENGTH = 200;
+	private static final int EXPLAIN_TIMEOUT_SECONDS = 30;
+
+	private final DataSource dataSource;
+	private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+	SlowQueryListener(DataSource dataSource, ObjectProvider<SlowQueryLog> slowQueryLog) {
+		this.dataSource = dataSource;
+		this.slowQueryLog = slowQueryLog;
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		var log = slowQueryLog.getIfAvailable();
+		if (log == null || !log.isSlow(execInfo.getElapsedTime())) {
+			return;
+		}
+		for (var queryInfo : queryInfoList) {
+			var executions = queryInfo.getParametersList();
+			var parameters = executions.isEmpty() ? List.<ParameterSetOperation>of() : sorted(executions.getFirst());
+			var values = parameters.stream().map(SlowQueryListener::describe).toList();
+			var query = new SlowQueryTO(queryInfo.getQuery(), values, Math.max(executions.size(), 1),
+				execInfo.getElapsedTime(), OffsetDateTime.now(), null);
+			log.record(query);
+			if (log.shouldExplain(query.sql())) {
+				log.explain(query, () -> explain(query.sql(), parameters));
+			}
+		}
+	}
+
+	private String explain(String sql, List<ParameterSetOperation> parameters) throws SQLException {
+		try (var connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			try (var readOnly = connection.createStatement()) {
+				readOnly.execute("SET TRANSACTION READ ONLY");
+			}
+			try (var statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + sql)) {
+				statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+				for (var parameter : parameters) {
+					// Replays setString, setObject, setNull, ... with the original arguments
+					parameter.getMethod().invoke(statement, parameter.getArgs());
+				}
+				var plan = new StringBuilder();
+				try (var resultSet = statement.executeQuery()) {
+					while (resultSet.next()) {
+						plan.append(resultSet.getString(1)).append('\n');
+					}
+				}
+				return plan.toString();
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new SQLException("Could not bind the parameters of " + sql, e);
+			} finally {
+				connection.rollback();
+				connection.setAutoCommit(true);
+			}
+		}
+	}
+
+	private static List<ParameterSetOperation> sorted(List<ParameterSetOperation> parameters) {
+		return parameters.stream()
+			.filter(parameter -> parameter.getArgs().length > 1 && parameter.getArgs()[0] instanceof Integer)
+			.sorted(Comparator.comparingInt(parameter -> (Integer) parameter.getArgs()[0]))
+			.toList();
+	}
+
+	private static String describe(ParameterSetOperation parameter) {
+		if (ParameterSetOperation.isSetNullParameterOperation(parameter)) {
+			return "null";
+		}
+		var value = String.valueOf(parameter.getArgs()[1]);
+		return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+	}
+}
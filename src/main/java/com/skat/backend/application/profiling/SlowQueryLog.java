@@ -0,0 +1,120 @@
+package com.skat.backend.application.profiling;
+
+import com.skat.backend.application.dto.SlowQueriesTO;
+import com.skat.backend.application.dto.SlowQueryTO;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the slowest statements executed by this instance, fed by {@link SlowQueryListener}. Only statements slower
+ * than {@code skat.slow-query.threshold} are considered and the {@code skat.slow-query.capacity} slowest of them are
+ * kept. A share of {@code skat.slow-query.explain-sample-rate} of the slow queries is re-run with
+ * {@code EXPLAIN (ANALYZE, BUFFERS)} in the background, one at a time; the newest plans are kept alongside.
+ */
+@Component
+@Slf4j
+public class SlowQueryLog {
+
+	@Value("${skat.slow-query.threshold:200ms}")
+	private Duration threshold;
+
+	@Value("${skat.slow-query.capacity:50}")
+	private int capacity;
+
+	@Value("${skat.slow-query.explain-sample-rate:0}")
+	private double explainSampleRate;
+
+	private static final Comparator<SlowQueryTO> BY_ELAPSED = Comparator.comparingLong(SlowQueryTO::elapsed_ms);
+
+	// Min-heap, so the fastest of the kept statements is the one replaced
+	private final PriorityQueue<SlowQueryTO> slowest = new PriorityQueue<>(BY_ELAPSED);
+	private final Deque<SlowQueryTO> explained = new ArrayDeque<>();
+	private final Semaphore explaining = new Semaphore(1);
+	private final ExecutorService explainer = Executors.newVirtualThreadPerTaskExecutor();
+
+	public boolean isSlow(long elapsedMillis) {
+		return elapsedMillis >= threshold.toMillis();
+	}
+
+	public synchronized void record(SlowQueryTO query) {
+		if (slowest.size() < capacity) {
+			slowest.add(query);
+		} else if (!slowest.isEmpty() && BY_ELAPSED.compare(query, slowest.peek()) > 0) {
+			slowest.poll();
+			slowest.add(query);
+		}
+	}
+
+	/**
+	 * Decides whether a slow statement is sampled for a plan. Only reading statements are explained, since
+	 * {@code EXPLAIN ANALYZE} executes the statement again.
+	 */
+	public boolean shouldExplain(String sql) {
+		if (explainSampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= explainSampleRate) {
+			return false;
+		}
+		var statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+		return statement.startsWith("select") || statement.startsWith("with");
+	}
+
+	/**
+	 * Runs the given plan lookup in the background and keeps its result with the query. The sample is dropped while
+	 * another plan is being captured, so sampling never piles up work on the database.
+	 */
+	public void explain(SlowQueryTO query, Callable<String> plan) {
+		if (!explaining.tryAcquire()) {
+			return;
+		}
+		explainer.execute(() -> {
+			try {
+				var explainedQuery = new SlowQueryTO(query.sql(), query.parameters(), query.batch_size(),
+					query.elapsed_ms(), query.executed_at(), plan.call());
+				synchronized (this) {
+					if (explained.size() >= capacity) {
+						explained.removeLast();
+					}
+					explained.addFirst(explainedQuery);
+				}
+			} catch (Exception e) {
+				log.debug("Could not explain slow query {}", query.sql(), e);
+			} finally {
+				explaining.release();
+			}
+		});
+	}
+
+	/**
+	 * @return the kept statements, slowest first, and the captured plans, newest first
+	 */
+	public synchronized SlowQueriesTO snapshot() {
+		var sorted = new ArrayList<>(slowest);
+		sorted.sort(BY_ELAPSED.reversed());
+		return new SlowQueriesTO(threshold.toMillis(), sorted, List.copyOf(explained));
+	}
+
+	public synchronized void clear() {
+		slowest.clear();
+		explained.clear();
+	}
+
+	@EventListener(ContextClosedEvent.class)
+	public void shutdown() {
+		explainer.shutdownNow();
+	}
+}
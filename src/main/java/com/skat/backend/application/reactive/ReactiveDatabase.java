@@ -0,0 +1,103 @@
+package com.skat.backend.application.reactive;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * R2DBC access to the application database for the non-blocking read API. It connects to the database of the JDBC
+ * data source with a pool of its own ({@code skat.reactive.pool.*}), so long-lived reads never hold HikariCP
+ * connections of the write path.
+ * <p>
+ * The pool is deliberately not exposed as a {@code ConnectionFactory} bean: Spring Boot backs off from the JDBC
+ * data source as soon as one exists, and R2DBC auto-configuration is excluded for the same reason.
+ */
+@Component
+@Slf4j
+public class ReactiveDatabase {
+
+	private static final String JDBC_PREFIX = "jdbc:postgresql:";
+
+	@Autowired
+	private JdbcConnectionDetails connectionDetails;
+
+	@Value("${skat.reactive.pool.max-size:20}")
+	private int maxSize;
+
+	@Value("${skat.reactive.pool.acquire-timeout:5s}")
+	private Duration acquireTimeout;
+
+	@Value("${skat.reactive.page-size:500}")
+	private int pageSize;
+
+	private ConnectionPool pool;
+	private DatabaseClient client;
+
+	@PostConstruct
+	void connect() {
+		var options = connectionOptions(connectionDetails.getJdbcUrl(), connectionDetails.getUsername(),
+			connectionDetails.getPassword());
+		pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+			.name("skat-reactive")
+			.initialSize(0)
+			.maxSize(maxSize)
+			.maxAcquireTime(acquireTimeout)
+			.build());
+		client = DatabaseClient.create(pool);
+		log.info("Reactive reads use up to {} R2DBC connections to {}:{}", maxSize,
+			options.getValue(ConnectionFactoryOptions.HOST), options.getValue(ConnectionFactoryOptions.PORT));
+	}
+
+	@PreDestroy
+	void close() {
+		if (pool != null) {
+			pool.dispose();
+		}
+	}
+
+	/**
+	 * Prepares a statement. Its connection is taken from the pool on subscription and returned once the result was
+	 * read completely or the subscription cancelled.
+	 */
+	public DatabaseClient.GenericExecuteSpec sql(String sql) {
+		return client.sql(sql);
+	}
+
+	/**
+	 * Number of rows streams read per statement, {@code skat.reactive.page-size}.
+	 */
+	public int pageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * Derives the R2DBC options from the JDBC URL, e.g. {@code jdbc:postgresql://host:5432/db?ssl=true} becomes
+	 * {@code r2dbc:postgresql://host:5432/db?ssl=true}.
+	 */
+	static ConnectionFactoryOptions connectionOptions(String jdbcUrl, String username, String password) {
+		if (jdbcUrl == null || !jdbcUrl.startsWith(JDBC_PREFIX + "//")) {
+			throw new IllegalStateException("Reactive reads need a jdbc:postgresql://host/database URL, got: " + jdbcUrl);
+		}
+		var options = ConnectionFactoryOptions.parse("r2dbc:" + jdbcUrl.substring("jdbc:".length())).mutate();
+		if (username != null) {
+			options.option(USER, username);
+		}
+		if (password != null) {
+			options.option(PASSWORD, password);
+		}
+		return options.build();
+	}
+}
@@ -0,0 +1,37 @@
+package com.skat.backend.application.reactive;
+
+import com.skat.backend.application.dto.GameTO;
+import com.skat.backend.application.dto.PlayerScoreTO;
+import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.PlayersSort;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads over R2DBC for dashboards holding many long-lived connections. Results are emitted while they
+ * are read and follow the subscriber's demand.
+ * <p>
+ * Streams read in keyset pages, each page in a statement of its own, so a stream holds a database connection only
+ * while a page is read. A stream is therefore not one snapshot: a row written while it runs may be missed, and a
+ * player whose score changes may appear twice or not at all in the score order.
+ */
+public interface ReactiveReadService {
+
+	/**
+	 * Emits every player with the current score snapshot, ordered like the paged listing.
+	 *
+	 * @param sort NAME or SCORE_DESC
+	 */
+	Flux<PlayerWithScoreTO> streamPlayers(PlayersSort sort);
+
+	/**
+	 * Emits the cumulative score history of a player in sequence order; empty for an unknown player.
+	 */
+	Flux<PlayerScoreTO> streamPlayerScores(UUID playerId);
+
+	/**
+	 * Looks up a game; empty if it does not exist.
+	 */
+	Mono<GameTO> findGame(UUID id);
+}
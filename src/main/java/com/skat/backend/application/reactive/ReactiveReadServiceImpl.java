@@ -0,0 +1,173 @@
+package com.skat.backend.application.reactive;
+
+import com.skat.backend.application.dto.GameTO;
+import com.skat.backend.application.dto.PlayerScoreTO;
+import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.PlayersSort;
+import io.r2dbc.spi.Readable;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+	// Same orderings, keysets and indexes as PlayerRepository.findAllOrderedByName/-ByNameAfter
+	private static final String PLAYERS_BY_NAME = """
+		SELECT p.id, p.first_name, p.last_name, cs.total_points, cs.sequence_index, cs.updated_at
+		FROM player p
+		LEFT JOIN player_current_score cs ON cs.player_id = p.id
+		ORDER BY p.last_name ASC, p.first_name ASC, p.id ASC
+		LIMIT :limit
+		""";
+
+	private static final String PLAYERS_BY_NAME_AFTER = """
+		SELECT p.id, p.first_name, p.last_name, cs.total_points, cs.sequence_index, cs.updated_at
+		FROM player p
+		LEFT JOIN player_current_score cs ON cs.player_id = p.id
+		WHERE (p.last_name, p.first_name, p.id) > (:lastName, :firstName, :id)
+		ORDER BY p.last_name ASC, p.first_name ASC, p.id ASC
+		LIMIT :limit
+		""";
+
+	// Same orderings, keysets and indexes as PlayerRepository.findAllOrderedByScore/-ByScoreAfter
+	private static final String PLAYERS_BY_SCORE = """
+		SELECT cs.player_id AS id, cs.first_name, cs.last_name, cs.total_points, cs.sequence_index, cs.updated_at
+		FROM player_current_score cs
+		ORDER BY cs.total_points DESC, cs.last_name ASC, cs.first_name ASC, cs.player_id ASC
+		LIMIT :limit
+		""";
+
+	private static final String PLAYERS_BY_SCORE_AFTER = """
+		(SELECT cs.player_id AS id, cs.first_name, cs.last_name, cs.total_points, cs.sequence_index, cs.updated_at
+		 FROM player_current_score cs
+		 WHERE cs.total_points = :totalPoints
+		   AND (cs.last_name, cs.first_name, cs.player_id) > (:lastName, :firstName, :id)
+		 ORDER BY cs.last_name ASC, cs.first_name ASC, cs.player_id ASC
+		 LIMIT :limit)
+		UNION ALL
+		(SELECT cs.player_id, cs.first_name, cs.last_name, cs.total_points, cs.sequence_index, cs.updated_at
+		 FROM player_current_score cs
+		 WHERE cs.total_points < :totalPoints
+		 ORDER BY cs.total_points DESC, cs.last_name ASC, cs.first_name ASC, cs.player_id ASC
+		 LIMIT :limit)
+		ORDER BY total_points DESC, last_name ASC, first_name ASC, id ASC
+		LIMIT :limit
+		""";
+
+	// Walks player_score_player_sequence_IDX; sequences start at 1
+	private static final String PLAYER_SCORES_AFTER = """
+		SELECT s.id, s.player_id, s.game_id, s.sequence_index, s.total_points, s.created_at
+		FROM player_score s
+		WHERE s.player_id = :playerId AND s.sequence_index > :sequenceIndex
+		ORDER BY s.sequence_index
+		LIMIT :limit
+		""";
+
+	private static final String GAME = """
+		SELECT g.id, g.player1_id, g.player2_id, g.player3_id, g.main_player_id, g.bid_value, g.score, g.played_at
+		FROM game g
+		WHERE g.id = :id
+		""";
+
+	@Autowired
+	private ReactiveDatabase database;
+
+	@Override
+	public Flux<PlayerWithScoreTO> streamPlayers(PlayersSort sort) {
+		if (sort == PlayersSort.SCORE_DESC) {
+			return pages(
+				database.sql(PLAYERS_BY_SCORE),
+				last -> database.sql(PLAYERS_BY_SCORE_AFTER)
+					.bind("totalPoints", last.current_total_points())
+					.bind("lastName", last.last_name())
+					.bind("firstName", last.first_name())
+					.bind("id", last.id()),
+				ReactiveReadServiceImpl::toPlayerWithScore);
+		}
+		return pages(
+			database.sql(PLAYERS_BY_NAME),
+			last -> database.sql(PLAYERS_BY_NAME_AFTER)
+				.bind("lastName", last.last_name())
+				.bind("firstName", last.first_name())
+				.bind("id", last.id()),
+			ReactiveReadServiceImpl::toPlayerWithScore);
+	}
+
+	@Override
+	public Flux<PlayerScoreTO> streamPlayerScores(UUID playerId) {
+		return pages(
+			database.sql(PLAYER_SCORES_AFTER).bind("playerId", playerId).bind("sequenceIndex", 0),
+			last -> database.sql(PLAYER_SCORES_AFTER)
+				.bind("playerId", playerId)
+				.bind("sequenceIndex", last.sequence_index()),
+			ReactiveReadServiceImpl::toPlayerScore);
+	}
+
+	@Override
+	public Mono<GameTO> findGame(UUID id) {
+		return database.sql(GAME)
+			.bind("id", id)
+			.map(ReactiveReadServiceImpl::toGame)
+			.one();
+	}
+
+	/**
+	 * Reads a result in keyset pages of {@code skat.reactive.page-size} rows, each page in a statement of its own. A
+	 * page is always read completely, independent of the subscriber's demand, and its connection returned to the pool
+	 * before its rows are emitted. The next page is read ahead while the subscriber takes the current one, and no
+	 * further until the subscriber has taken that. A stream therefore holds a connection only while a page is read,
+	 * however slowly its client consumes it, and buffers at most two pages.
+	 */
+	private <T> Flux<T> pages(DatabaseClient.GenericExecuteSpec first,
+		Function<T, DatabaseClient.GenericExecuteSpec> after, Function<Readable, T> mapper) {
+		var pageSize = database.pageSize();
+		// collectList would only request the rows once the page is demanded and hold the connection until then
+		Function<DatabaseClient.GenericExecuteSpec, Mono<List<T>>> read = spec -> Mono.fromFuture(
+			() -> spec.bind("limit", pageSize).map(mapper).all().collectList().toFuture());
+		return read.apply(first)
+			.expand(page -> page.size() < pageSize ? Mono.empty() : read.apply(after.apply(page.getLast())))
+			.flatMapIterable(Function.identity(), 1);
+	}
+
+	private static PlayerWithScoreTO toPlayerWithScore(Readable row) {
+		var totalPoints = row.get("total_points", Integer.class);
+		var sequenceIndex = row.get("sequence_index", Integer.class);
+		var updatedAt = row.get("updated_at", OffsetDateTime.class);
+		return new PlayerWithScoreTO(
+			row.get("id", UUID.class),
+			row.get("first_name", String.class),
+			row.get("last_name", String.class),
+			totalPoints != null ? totalPoints : 0,
+			sequenceIndex != null ? sequenceIndex : 0,
+			updatedAt != null ? updatedAt : OffsetDateTime.now());
+	}
+
+	private static PlayerScoreTO toPlayerScore(Readable row) {
+		return new PlayerScoreTO(
+			row.get("id", UUID.class),
+			row.get("player_id", UUID.class),
+			row.get("game_id", UUID.class),
+			row.get("sequence_index", Integer.class),
+			row.get("total_points", Integer.class),
+			row.get("created_at", OffsetDateTime.class));
+	}
+
+	private static GameTO toGame(Readable row) {
+		return new GameTO(
+			row.get("id", UUID.class),
+			row.get("player1_id", UUID.class),
+			row.get("player2_id", UUID.class),
+			row.get("player3_id", UUID.class),
+			row.get("main_player_id", UUID.class),
+			row.get("bid_value", Integer.class),
+			row.get("score", Integer.class),
+			row.get("played_at", OffsetDateTime.class));
+	}
+}
@@ -0,0 +1,18 @@
+package com.skat.backend.application.replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps the read-only transactions of the annotated method on the primary. Meant for reads a replica would cancel:
+ * queries that run longer than the replica's {@code max_standby_streaming_delay} (30 s by default) while it replays
+ * conflicting changes of the primary.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PrimaryOnly {
+}
@@ -0,0 +1,23 @@
+package com.skat.backend.application.replica;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Routes the read-only connections taken during a {@link PrimaryOnly} method to the primary. The aspect runs outside
+ * the transaction interceptor, so the connection of the method's transaction is covered as well.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class PrimaryOnlyAspect {
+
+	@Around("@annotation(com.skat.backend.application.replica.PrimaryOnly)")
+	public Object onPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+		return ReplicaRoutingDataSource.onPrimary(joinPoint::proceed);
+	}
+}
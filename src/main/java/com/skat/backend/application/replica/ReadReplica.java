@@ -0,0 +1,73 @@
+package com.skat.backend.application.replica;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+/**
+ * One streaming replica with the state found by the last check of {@link ReadReplicas}. The state is written by the
+ * checking thread only and read by every routed connection request.
+ */
+class ReadReplica {
+
+	private final String name;
+	private final DataSource dataSource;
+
+	private volatile boolean available;
+	private volatile double lagSeconds = Double.NaN;
+	// Highest data version whose writes the replica is known to have replayed
+	private volatile long caughtUpVersion = -1;
+
+	ReadReplica(String name, DataSource dataSource) {
+		this.name = name;
+		this.dataSource = dataSource;
+	}
+
+	String name() {
+		return name;
+	}
+
+	DataSource dataSource() {
+		return dataSource;
+	}
+
+	boolean isAvailable() {
+		return available;
+	}
+
+	double lagSeconds() {
+		return lagSeconds;
+	}
+
+	/**
+	 * @return whether the replica is up, lags at most {@code maxLag} and has replayed every write counted in
+	 *         {@code dataVersion}
+	 */
+	boolean serves(long dataVersion, Duration maxLag) {
+		return available && lagSeconds * 1000 <= maxLag.toMillis() && caughtUpVersion >= dataVersion;
+	}
+
+	/**
+	 * Records a successful check.
+	 *
+	 * @param caughtUp whether the replica has replayed the primary's WAL up to the position read at {@code version}
+	 * @return whether the replica was unavailable before
+	 */
+	boolean checked(double lagSeconds, boolean caughtUp, long version) {
+		this.lagSeconds = lagSeconds;
+		if (caughtUp && version > caughtUpVersion) {
+			caughtUpVersion = version;
+		}
+		var wasAvailable = available;
+		available = true;
+		return !wasAvailable;
+	}
+
+	/**
+	 * @return whether the replica was available before
+	 */
+	boolean markDown() {
+		var wasAvailable = available;
+		available = false;
+		return wasAvailable;
+	}
+}
@@ -0,0 +1,45 @@
+package com.skat.backend.application.replica;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Routes read-only transactions to the read replicas once {@code skat.replica.urls} lists any. The application data
+ * source is wrapped in a {@link LazyConnectionDataSourceProxy} that only fetches the physical connection at the first
+ * statement; by then the transaction has marked it read-only, and read-only connections come from the
+ * {@link ReplicaRoutingDataSource}. Everything else keeps using the primary.
+ * <p>
+ * Runs before the {@code SlowQueryDataSourceWrapper}, so statements on the replicas are timed as well.
+ */
+@Component
+public class ReadReplicaDataSourceWrapper implements BeanPostProcessor, Ordered {
+
+	@Value("${skat.replica.urls:}")
+	private List<String> replicaUrls;
+
+	@Autowired
+	private ObjectProvider<ReadReplicas> readReplicas;
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (replicaUrls.isEmpty() || !(bean instanceof DataSource primary)
+			|| bean instanceof LazyConnectionDataSourceProxy) {
+			return bean;
+		}
+		var routing = new LazyConnectionDataSourceProxy(primary);
+		routing.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, readReplicas));
+		return routing;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+}
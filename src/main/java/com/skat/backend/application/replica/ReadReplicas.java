@@ -0,0 +1,205 @@
+package com.skat.backend.application.replica;
+
+import com.skat.backend.application.DataVersion;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The streaming replicas of {@code skat.replica.urls} that serve read-only transactions, each with a pool of its own.
+ * Every {@code skat.replica.check-interval} they are checked for being in recovery, their replay lag and the WAL
+ * position they have replayed.
+ * <p>
+ * A replica only serves reads while its lag is at most {@code skat.replica.max-lag} and it has replayed every write
+ * counted in the current {@link DataVersion}. For the latter, each check reads the data version before the primary's
+ * WAL position: those writes committed before their version was advanced, so a replica that replayed up to that
+ * position sees all of them. Reads therefore stay on the primary after a write through this instance until the next
+ * check found a replica caught up, and an ETag handed out for a version always describes data at least that recent.
+ * <p>
+ * Read-only connections are counted per route in {@code skat.datasource.reads}; the lag and availability of every
+ * replica are published as {@code skat.datasource.replica.lag} and {@code skat.datasource.replica.available}.
+ */
+@Component
+@Slf4j
+public class ReadReplicas {
+
+	static final String PRIMARY = "primary";
+
+	private static final String PRIMARY_POSITION_SQL = "SELECT CAST(pg_current_wal_lsn() AS text)";
+	private static final String REPLICA_STATUS_SQL = """
+		SELECT pg_is_in_recovery(),
+		       COALESCE(pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn), false),
+		       CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+		            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END
+		""";
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private DataVersion dataVersion;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${skat.replica.urls:}")
+	private List<String> urls;
+
+	@Value("${skat.replica.username:${spring.datasource.username:}}")
+	private String username;
+
+	@Value("${skat.replica.password:${spring.datasource.password:}}")
+	private String password;
+
+	@Value("${skat.replica.pool.max-size:10}")
+	private int maxPoolSize;
+
+	@Value("${skat.replica.pool.connection-timeout:1s}")
+	private Duration connectionTimeout;
+
+	@Value("${skat.replica.max-lag:5s}")
+	private Duration maxLag;
+
+	@Value("${skat.replica.check-interval:1s}")
+	private Duration checkInterval;
+
+	private List<ReadReplica> replicas = List.of();
+	private final AtomicInteger next = new AtomicInteger();
+	private final ScheduledExecutorService checker =
+		Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("read-replica-check").factory());
+
+	@PostConstruct
+	void connect() {
+		var connected = new ArrayList<ReadReplica>();
+		for (var url : urls) {
+			var replica = new ReadReplica("replica-" + (connected.size() + 1), pool(connected.size() + 1, url));
+			Gauge.builder("skat.datasource.replica.lag", replica, ReadReplica::lagSeconds)
+				.tag("replica", replica.name())
+				.baseUnit("seconds")
+				.register(meterRegistry);
+			Gauge.builder("skat.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+				.tag("replica", replica.name())
+				.register(meterRegistry);
+			connected.add(replica);
+		}
+		replicas = List.copyOf(connected);
+		if (!replicas.isEmpty()) {
+			checker.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+			log.info("Read-only transactions are routed to {} replicas with at most {} lag", replicas.size(), maxLag);
+		}
+	}
+
+	private HikariDataSource pool(int number, String url) {
+		var config = new HikariConfig();
+		config.setPoolName("skat-replica-" + number);
+		config.setJdbcUrl(url);
+		config.setUsername(username.isBlank() ? null : username);
+		config.setPassword(password.isBlank() ? null : password);
+		config.setMaximumPoolSize(maxPoolSize);
+		config.setConnectionTimeout(connectionTimeout.toMillis());
+		config.setReadOnly(true);
+		// Starts even while the replica is down; it is only used once a check reached it
+		config.setInitializationFailTimeout(-1);
+		// Publishes the hikaricp.* metrics of the pool, tagged with its name
+		config.setMetricRegistry(meterRegistry);
+		return new HikariDataSource(config);
+	}
+
+	@PreDestroy
+	void close() {
+		checker.shutdownNow();
+		for (var replica : replicas) {
+			((HikariDataSource) replica.dataSource()).close();
+		}
+	}
+
+	/**
+	 * @return the replicas currently fit to serve a read, starting with the next one in round-robin order
+	 */
+	List<ReadReplica> candidates() {
+		var version = dataVersion.current();
+		var start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+		var candidates = new ArrayList<ReadReplica>(replicas.size());
+		for (int i = 0; i < replicas.size(); i++) {
+			var replica = replicas.get((start + i) % replicas.size());
+			if (replica.serves(version, maxLag)) {
+				candidates.add(replica);
+			}
+		}
+		return candidates;
+	}
+
+	void routed(String route) {
+		meterRegistry.counter("skat.datasource.reads", "route", route).increment();
+	}
+
+	/**
+	 * Takes a replica out of routing after a connection to it failed, until the next check reaches it again.
+	 */
+	void failed(ReadReplica replica, SQLException e) {
+		if (replica.markDown()) {
+			log.warn("Read replica {} failed, reads fall back: {}", replica.name(), e.getMessage());
+		}
+	}
+
+	void check() {
+		try {
+			// Read before the WAL position, see the class comment
+			var version = dataVersion.current();
+			var position = primaryPosition();
+			for (var replica : replicas) {
+				check(replica, position, version);
+			}
+		} catch (SQLException e) {
+			log.warn("Could not read the WAL position of the primary: {}", e.getMessage());
+		} catch (RuntimeException e) {
+			// An exception would end the scheduled checks
+			log.error("Checking the read replicas failed", e);
+		}
+	}
+
+	private String primaryPosition() throws SQLException {
+		try (var connection = dataSource.getConnection();
+			var statement = connection.createStatement();
+			var resultSet = statement.executeQuery(PRIMARY_POSITION_SQL)) {
+			resultSet.next();
+			return resultSet.getString(1);
+		}
+	}
+
+	private void check(ReadReplica replica, String position, long version) {
+		try (var connection = replica.dataSource().getConnection();
+			var statement = connection.prepareStatement(REPLICA_STATUS_SQL)) {
+			statement.setString(1, position);
+			try (var resultSet = statement.executeQuery()) {
+				resultSet.next();
+				if (!resultSet.getBoolean(1)) {
+					// A promoted replica no longer follows the primary
+					if (replica.markDown()) {
+						log.warn("Read replica {} is not in recovery and is not used", replica.name());
+					}
+				} else if (replica.checked(resultSet.getDouble(3), resultSet.getBoolean(2), version)) {
+					log.info("Read replica {} is available", replica.name());
+				}
+			}
+		} catch (SQLException e) {
+			failed(replica, e);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.skat.backend.application.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Hands out the connections of read-only transactions: from a replica that {@link ReadReplicas} considers current,
+ * else from the primary. A replica whose pool fails to connect is skipped for the next one. Inside
+ * {@link #onPrimary(PrimaryWork)} every read-only connection comes from the primary. Primary connections are switched
+ * to read-only themselves; the pool resets them when they are returned.
+ */
+class ReplicaRoutingDataSource extends AbstractDataSource {
+
+	private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+	private final DataSource primary;
+	private final ObjectProvider<ReadReplicas> readReplicas;
+
+	ReplicaRoutingDataSource(DataSource primary, ObjectProvider<ReadReplicas> readReplicas) {
+		this.primary = primary;
+		this.readReplicas = readReplicas;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		var replicas = readReplicas.getIfAvailable();
+		if (replicas == null) {
+			return readOnly(primary.getConnection());
+		}
+		if (PRIMARY_ONLY.get() != null) {
+			var connection = readOnly(primary.getConnection());
+			replicas.routed(ReadReplicas.PRIMARY);
+			return connection;
+		}
+		for (var replica : replicas.candidates()) {
+			try {
+				var connection = replica.dataSource().getConnection();
+				replicas.routed(replica.name());
+				return connection;
+			} catch (SQLException e) {
+				replicas.failed(replica, e);
+			}
+		}
+		var connection = readOnly(primary.getConnection());
+		replicas.routed(ReadReplicas.PRIMARY);
+		return connection;
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		// Explicit credentials are not used by the application; they are meant for the primary
+		return readOnly(primary.getConnection(username, password));
+	}
+
+	/**
+	 * Runs the work with every read-only connection of the current thread taken from the primary.
+	 */
+	static <T> T onPrimary(PrimaryWork<T> work) throws Throwable {
+		if (PRIMARY_ONLY.get() != null) {
+			return work.run();
+		}
+		PRIMARY_ONLY.set(Boolean.TRUE);
+		try {
+			return work.run();
+		} finally {
+			PRIMARY_ONLY.remove();
+		}
+	}
+
+	@FunctionalInterface
+	interface PrimaryWork<T> {
+
+		T run() throws Throwable;
+	}
+
+	private static Connection readOnly(Connection connection) throws SQLException {
+		try {
+			connection.setReadOnly(true);
+			return connection;
+		} catch (SQLException e) {
+			connection.close();
+			throw e;
+		}
+	}
+}
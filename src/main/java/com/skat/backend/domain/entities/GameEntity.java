@@ -1,7 +1,9 @@
 package com.skat.backend.domain.entities;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -12,7 +14,11 @@ import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(
@@ -21,6 +27,9 @@ import lombok.NoArgsConstructor;
 			@Index(name = "game_main_player_IDX", columnList = "main_player_id"),
 			@Index(name = "game_played_at_IDX", columnList = "played_at")
 	})
+// Games are never updated through the entity; the bulk nullify query in GameRepository evicts the region
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "game")
 @Data
 @NoArgsConstructor
 public class GameEntity {
@@ -29,19 +38,27 @@ public class GameEntity {
 	@GeneratedValue(strategy = GenerationType.UUID)
 	private UUID id;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinColumn(name = "player1_id")
 	private PlayerEntity player1;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinColumn(name = "player2_id")
 	private PlayerEntity player2;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinColumn(name = "player3_id")
 	private PlayerEntity player3;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinColumn(name = "main_player_id")
 	private PlayerEntity mainPlayer;
 
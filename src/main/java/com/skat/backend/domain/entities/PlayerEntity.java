@@ -1,5 +1,6 @@
 package com.skat.backend.domain.entities;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -7,22 +8,25 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+// Case-insensitive uniqueness of (first_name, last_name) is enforced by the functional unique index
+// player_first_last_name_UQ on (lower(first_name), lower(last_name)), see V7 migration
 @Table(
 	name = "player",
-	uniqueConstraints = {
-			@UniqueConstraint(name = "player_first_last_name_UQ", columnNames = { "first_name", "last_name" })
-	},
 	indexes = {
 			@Index(name = "player_first_name_IDX", columnList = "first_name"),
-			@Index(name = "player_last_name_IDX", columnList = "last_name")
+			@Index(name = "player_last_name_IDX", columnList = "last_name"),
+			@Index(name = "player_last_name_first_name_IDX", columnList = "last_name, first_name, id")
 	})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "player")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -2,6 +2,7 @@ package com.skat.backend.domain.entities;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -12,7 +13,9 @@ import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Table(
@@ -20,8 +23,10 @@ import lombok.NoArgsConstructor;
 	indexes = {
 			@Index(name = "player_score_player_IDX", columnList = "player_id"),
 			@Index(name = "player_score_game_IDX", columnList = "game_id"),
-			@Index(name = "player_score_sequence_IDX", columnList = "sequence_index")
+			@Index(name = "player_score_sequence_IDX", columnList = "sequence_index"),
+			@Index(name = "player_score_player_sequence_IDX", columnList = "player_id, sequence_index DESC")
 	})
+// Score reads select the referenced ids through PlayerScoreView, so the lazy associations are never initialized
 @Data
 @NoArgsConstructor
 public class PlayerScoreEntity {
@@ -30,11 +35,15 @@ public class PlayerScoreEntity {
 	@GeneratedValue(strategy = GenerationType.UUID)
 	private UUID id;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinColumn(name = "player_id")
 	private PlayerEntity player;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinColumn(name = "game_id", nullable = false)
 	private GameEntity game;
 
@@ -0,0 +1,26 @@
+package com.skat.backend.domain.projections;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a game with the ids of its players, read without loading the player entities.
+ */
+public interface GameView {
+
+	UUID getId();
+
+	UUID getPlayer1Id();
+
+	UUID getPlayer2Id();
+
+	UUID getPlayer3Id();
+
+	UUID getMainPlayerId();
+
+	Integer getBidValue();
+
+	Integer getScore();
+
+	Instant getPlayedAt();
+}
@@ -0,0 +1,11 @@
+package com.skat.backend.domain.projections;
+
+/**
+ * Read-only projection of a game joined with the score row one of its players received for it.
+ */
+public interface PlayerGameView extends GameView {
+
+	Integer getSequenceIndex();
+
+	Integer getTotalPoints();
+}
@@ -0,0 +1,14 @@
+package com.skat.backend.domain.projections;
+
+/**
+ * Read-only projection of a player name lower-cased by the database, matching the key of the case-insensitive unique
+ * index, and whether a player with that key exists.
+ */
+public interface PlayerNameView {
+
+	String getFirstName();
+
+	String getLastName();
+
+	boolean isTaken();
+}
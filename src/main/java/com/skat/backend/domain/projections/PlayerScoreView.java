@@ -0,0 +1,22 @@
+package com.skat.backend.domain.projections;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a player_score row without its player and game associations.
+ */
+public interface PlayerScoreView {
+
+	UUID getId();
+
+	UUID getPlayerId();
+
+	UUID getGameId();
+
+	Integer getSequenceIndex();
+
+	Integer getTotalPoints();
+
+	Instant getCreatedAt();
+}
@@ -0,0 +1,23 @@
+package com.skat.backend.domain.projections;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a player joined with the latest score. Score columns are {@code null} for players without
+ * any score yet.
+ */
+public interface PlayerWithScoreView {
+
+	UUID getId();
+
+	String getFirstName();
+
+	String getLastName();
+
+	Integer getTotalPoints();
+
+	Integer getSequenceIndex();
+
+	Instant getUpdatedAt();
+}
@@ -1,35 +1,80 @@
 package com.skat.backend.domain.repositories;
 
 import com.skat.backend.domain.entities.GameEntity;
+import com.skat.backend.domain.projections.PlayerGameView;
+import jakarta.persistence.QueryHint;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface GameRepository extends JpaRepository<GameEntity, UUID> {
 
-	@Query("""
-		SELECT CASE WHEN COUNT(g) > 0 THEN true ELSE false END FROM GameEntity g \
-		WHERE g.player1.id = :playerId OR g.player2.id = :playerId \
-		OR g.player3.id = :playerId OR g.mainPlayer.id = :playerId""")
+	@Query(value = "SELECT EXISTS (SELECT 1 FROM game_participant gp WHERE gp.player_id = :playerId)",
+		nativeQuery = true)
 	boolean existsByPlayerId(@Param("playerId") UUID playerId);
 
-	@Modifying
-	@Query("UPDATE GameEntity g SET g.player1 = NULL WHERE g.player1.id = :playerId")
-	void nullifyPlayer1References(@Param("playerId") UUID playerId);
+	@Query(value = "SELECT EXISTS (SELECT 1 FROM game_participant gp WHERE gp.player_id = ANY(:playerIds))",
+		nativeQuery = true)
+	boolean existsByPlayerIdIn(@Param("playerIds") UUID[] playerIds);
 
+	/**
+	 * Removes the given players from every seat of every game they took part in with a single statement. The games
+	 * are found through game_participant; the trigger on game drops the matching participant rows. The query space
+	 * hint limits the second-level cache eviction to the game region.
+	 *
+	 * @return number of updated games
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game"))
 	@Modifying
-	@Query("UPDATE GameEntity g SET g.player2 = NULL WHERE g.player2.id = :playerId")
-	void nullifyPlayer2References(@Param("playerId") UUID playerId);
+	@Query(value = """
+		UPDATE game SET
+		    player1_id = CASE WHEN player1_id = ANY(:playerIds) THEN NULL ELSE player1_id END,
+		    player2_id = CASE WHEN player2_id = ANY(:playerIds) THEN NULL ELSE player2_id END,
+		    player3_id = CASE WHEN player3_id = ANY(:playerIds) THEN NULL ELSE player3_id END,
+		    main_player_id = CASE WHEN main_player_id = ANY(:playerIds) THEN NULL ELSE main_player_id END
+		WHERE id IN (SELECT gp.game_id FROM game_participant gp WHERE gp.player_id = ANY(:playerIds))
+		""", nativeQuery = true)
+	int nullifyPlayerReferences(@Param("playerIds") UUID[] playerIds);
 
-	@Modifying
-	@Query("UPDATE GameEntity g SET g.player3 = NULL WHERE g.player3.id = :playerId")
-	void nullifyPlayer3References(@Param("playerId") UUID playerId);
+	/**
+	 * Returns the newest games of a player with the player's score row of each game. Reads the player's range of
+	 * game_participant_player_played_at_IDX backwards, so the cost depends on the limit only.
+	 */
+	@Query(value = """
+		SELECT g.id AS id, g.player1_id AS player1Id, g.player2_id AS player2Id, g.player3_id AS player3Id,
+		       g.main_player_id AS mainPlayerId, g.bid_value AS bidValue, g.score AS score, g.played_at AS playedAt,
+		       s.sequence_index AS sequenceIndex, s.total_points AS totalPoints
+		FROM game_participant gp
+		JOIN game g ON g.id = gp.game_id
+		LEFT JOIN player_score s ON s.game_id = gp.game_id AND s.player_id = gp.player_id
+		WHERE gp.player_id = :playerId
+		ORDER BY gp.played_at DESC, gp.game_id DESC
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<PlayerGameView> findLatestByPlayerId(@Param("playerId") UUID playerId, @Param("limit") int limit);
 
-	@Modifying
-	@Query("UPDATE GameEntity g SET g.mainPlayer = NULL WHERE g.mainPlayer.id = :playerId")
-	void nullifyMainPlayerReferences(@Param("playerId") UUID playerId);
+	/**
+	 * Continues {@link #findLatestByPlayerId(UUID, int)} with the games played before the given keyset position.
+	 */
+	@Query(value = """
+		SELECT g.id AS id, g.player1_id AS player1Id, g.player2_id AS player2Id, g.player3_id AS player3Id,
+		       g.main_player_id AS mainPlayerId, g.bid_value AS bidValue, g.score AS score, g.played_at AS playedAt,
+		       s.sequence_index AS sequenceIndex, s.total_points AS totalPoints
+		FROM game_participant gp
+		JOIN game g ON g.id = gp.game_id
+		LEFT JOIN player_score s ON s.game_id = gp.game_id AND s.player_id = gp.player_id
+		WHERE gp.player_id = :playerId AND (gp.played_at, gp.game_id) < (:playedAt, :gameId)
+		ORDER BY gp.played_at DESC, gp.game_id DESC
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<PlayerGameView> findLatestByPlayerIdBefore(@Param("playerId") UUID playerId,
+		@Param("playedAt") OffsetDateTime playedAt, @Param("gameId") UUID gameId, @Param("limit") int limit);
 }
@@ -1,23 +1,177 @@
 package com.skat.backend.domain.repositories;
 
 import com.skat.backend.domain.entities.PlayerEntity;
+import com.skat.backend.domain.projections.PlayerNameView;
+import com.skat.backend.domain.projections.PlayerWithScoreView;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<PlayerEntity, UUID> {
 
-	boolean existsByFirstNameIgnoreCaseAndLastNameIgnoreCase(String firstName, String lastName);
+	/**
+	 * Name of the unique index on {@code (lower(first_name), lower(last_name))}.
+	 */
+	String NAME_UNIQUE_INDEX = "player_first_last_name_UQ";
 
-	boolean existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndIdNot(String firstName, String lastName, UUID id);
+	/**
+	 * Returns one window of players ordered by name, each joined with the current score snapshot from
+	 * {@code player_current_score}.
+	 */
+	@Query(value = """
+		SELECT p.id AS id, p.first_name AS firstName, p.last_name AS lastName,
+		       cs.total_points AS totalPoints, cs.sequence_index AS sequenceIndex, cs.updated_at AS updatedAt
+		FROM player p
+		LEFT JOIN player_current_score cs ON cs.player_id = p.id
+		ORDER BY p.last_name ASC, p.first_name ASC, p.id ASC
+		LIMIT :limit OFFSET :offset
+		""", nativeQuery = true)
+	List<PlayerWithScoreView> findAllOrderedByName(@Param("offset") int offset, @Param("limit") int limit);
 
-	@Query("SELECT p FROM PlayerEntity p ORDER BY p.lastName ASC, p.firstName ASC")
-	List<PlayerEntity> findAllOrderedByName(Pageable pageable);
+	/**
+	 * Returns one window of the global leaderboard, read from the {@code player_current_score} projection alone and
+	 * walked along {@code player_current_score_ranking_IDX}.
+	 */
+	@Query(value = """
+		SELECT cs.player_id AS id, cs.first_name AS firstName, cs.last_name AS lastName,
+		       cs.total_points AS totalPoints, cs.sequence_index AS sequenceIndex, cs.updated_at AS updatedAt
+		FROM player_current_score cs
+		ORDER BY cs.total_points DESC, cs.last_name ASC, cs.first_name ASC, cs.player_id ASC
+		LIMIT :limit OFFSET :offset
+		""", nativeQuery = true)
+	List<PlayerWithScoreView> findAllOrderedByScore(@Param("offset") int offset, @Param("limit") int limit);
 
-	@Query("SELECT p FROM PlayerEntity p")
-	List<PlayerEntity> findAllPlayers(Pageable pageable);
+	/**
+	 * Keyset variant of {@link #findAllOrderedByName(int, int)}: returns the players following the given name key,
+	 * seeking directly into {@code player_last_name_first_name_IDX}.
+	 */
+	@Query(value = """
+		SELECT p.id AS id, p.first_name AS firstName, p.last_name AS lastName,
+		       cs.total_points AS totalPoints, cs.sequence_index AS sequenceIndex, cs.updated_at AS updatedAt
+		FROM player p
+		LEFT JOIN player_current_score cs ON cs.player_id = p.id
+		WHERE (p.last_name, p.first_name, p.id) > (:lastName, :firstName, :id)
+		ORDER BY p.last_name ASC, p.first_name ASC, p.id ASC
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<PlayerWithScoreView> findAllOrderedByNameAfter(@Param("lastName") String lastName,
+		@Param("firstName") String firstName, @Param("id") UUID id, @Param("limit") int limit);
+
+	/**
+	 * Keyset variant of {@link #findAllOrderedByScore(int, int)}: returns the players ranked after the given score
+	 * key. Both parts seek into {@code player_current_score_ranking_IDX}: the rest of the cursor's group of equal
+	 * points behind its name key, then the lower points. Each reads at most {@code limit} rows, so a cursor deep inside
+	 * a large group of equal points costs the same as the first page.
+	 */
+	@Query(value = """
+		(SELECT cs.player_id AS id, cs.first_name AS firstName, cs.last_name AS lastName,
+		        cs.total_points AS totalPoints, cs.sequence_index AS sequenceIndex, cs.updated_at AS updatedAt
+		 FROM player_current_score cs
+		 WHERE cs.total_points = :totalPoints
+		   AND (cs.last_name, cs.first_name, cs.player_id) > (:lastName, :firstName, :id)
+		 ORDER BY cs.last_name ASC, cs.first_name ASC, cs.player_id ASC
+		 LIMIT :limit)
+		UNION ALL
+		(SELECT cs.player_id, cs.first_name, cs.last_name, cs.total_points, cs.sequence_index, cs.updated_at
+		 FROM player_current_score cs
+		 WHERE cs.total_points < :totalPoints
+		 ORDER BY cs.total_points DESC, cs.last_name ASC, cs.first_name ASC, cs.player_id ASC
+		 LIMIT :limit)
+		ORDER BY totalPoints DESC, lastName ASC, firstName ASC, id ASC
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<PlayerWithScoreView> findAllOrderedByScoreAfter(@Param("totalPoints") int totalPoints,
+		@Param("lastName") String lastName, @Param("firstName") String firstName, @Param("id") UUID id,
+		@Param("limit") int limit);
+
+	/**
+	 * Returns every player with the current score snapshot, used to build the in-memory leaderboard.
+	 */
+	@Query(value = """
+		SELECT p.id AS id, p.first_name AS firstName, p.last_name AS lastName,
+		       cs.total_points AS totalPoints, cs.sequence_index AS sequenceIndex, cs.updated_at AS updatedAt
+		FROM player p
+		LEFT JOIN player_current_score cs ON cs.player_id = p.id
+		""", nativeQuery = true)
+	List<PlayerWithScoreView> findAllWithScore();
+
+	@Query(value = """
+		SELECT p.id AS id, p.first_name AS firstName, p.last_name AS lastName,
+		       cs.total_points AS totalPoints, cs.sequence_index AS sequenceIndex, cs.updated_at AS updatedAt
+		FROM player p
+		LEFT JOIN player_current_score cs ON cs.player_id = p.id
+		WHERE p.id = :id
+		""", nativeQuery = true)
+	Optional<PlayerWithScoreView> findWithScoreById(@Param("id") UUID id);
+
+	/**
+	 * Returns the given players with their current score and locks their player_current_score rows until the end of
+	 * the transaction. Rows are locked in id order, so transactions locking overlapping players cannot deadlock.
+	 */
+	@Query(value = """
+		SELECT p.id AS id, p.first_name AS firstName, p.last_name AS lastName,
+		       cs.total_points AS totalPoints, cs.sequence_index AS sequenceIndex, cs.updated_at AS updatedAt
+		FROM player p
+		JOIN player_current_score cs ON cs.player_id = p.id
+		WHERE p.id IN (:ids)
+		ORDER BY p.id
+		FOR UPDATE OF cs
+		""", nativeQuery = true)
+	List<PlayerWithScoreView> lockAllWithScoreByIdIn(@Param("ids") Collection<UUID> ids);
+
+	/**
+	 * Counts the players ranked before the given score key in the {@link #findAllOrderedByScore(int, int)} order.
+	 */
+	@Query(value = """
+		SELECT COUNT(*)
+		FROM player_current_score cs
+		WHERE cs.total_points >= :totalPoints
+		  AND (cs.total_points > :totalPoints
+		       OR (cs.last_name, cs.first_name, cs.player_id) < (:lastName, :firstName, :id))
+		""", nativeQuery = true)
+	long countRankedBefore(@Param("totalPoints") int totalPoints, @Param("lastName") String lastName,
+		@Param("firstName") String firstName, @Param("id") UUID id);
+
+	/**
+	 * Returns, in the order of the given names, each name lower-cased by the database and whether a player with that
+	 * lower-cased name exists. The keys are folded by {@code lower()} like the case-insensitive unique index, whose
+	 * rules for non-ASCII characters depend on the database collation and differ from Java's.
+	 *
+	 * @param firstNames first names, same length as {@code lastNames}
+	 */
+	@Query(value = """
+		SELECT lower(n.first_name) AS firstName, lower(n.last_name) AS lastName,
+		       EXISTS (SELECT 1 FROM player p
+		               WHERE lower(p.first_name) = lower(n.first_name)
+		                 AND lower(p.last_name) = lower(n.last_name)) AS taken
+		FROM unnest(CAST(:firstNames AS VARCHAR[]), CAST(:lastNames AS VARCHAR[]))
+		     WITH ORDINALITY AS n(first_name, last_name, position)
+		ORDER BY n.position
+		""", nativeQuery = true)
+	List<PlayerNameView> findNameKeys(@Param("firstNames") String[] firstNames,
+		@Param("lastNames") String[] lastNames);
+
+	@Query(value = "SELECT p.id FROM player p WHERE p.id = ANY(:ids)", nativeQuery = true)
+	List<UUID> findExistingIds(@Param("ids") UUID[] ids);
+
+	/**
+	 * Deletes the given players in one statement; their player_current_score rows are removed by cascade. The query
+	 * space hint limits the second-level cache eviction to the player region.
+	 *
+	 * @return number of deleted players
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "player"))
+	@Modifying
+	@Query(value = "DELETE FROM player WHERE id = ANY(:ids)", nativeQuery = true)
+	int deleteAllByIds(@Param("ids") UUID[] ids);
 }
@@ -1,34 +1,68 @@
 package com.skat.backend.domain.repositories;
 
 import com.skat.backend.domain.entities.PlayerScoreEntity;
-import java.util.List;
+import com.skat.backend.domain.projections.PlayerScoreView;
+import jakarta.persistence.QueryHint;
+import java.time.OffsetDateTime;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PlayerScoreRepository extends JpaRepository<PlayerScoreEntity, UUID> {
 
+	String EXPORT_FETCH_SIZE = "1000";
+
 	@Query("SELECT CASE WHEN COUNT(ps) > 0 THEN true ELSE false END FROM PlayerScoreEntity ps " +
 		"WHERE ps.player.id = :playerId")
 	boolean existsByPlayerId(@Param("playerId") UUID playerId);
 
+	@Query(value = "SELECT EXISTS (SELECT 1 FROM player_score s WHERE s.player_id = ANY(:playerIds))",
+		nativeQuery = true)
+	boolean existsByPlayerIdIn(@Param("playerIds") UUID[] playerIds);
+
+	/**
+	 * @return number of updated score rows
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "player_score"))
 	@Modifying
-	@Query("UPDATE PlayerScoreEntity ps SET ps.player = NULL WHERE ps.player.id = :playerId")
-	void nullifyPlayerReferences(@Param("playerId") UUID playerId);
+	@Query(value = "UPDATE player_score SET player_id = NULL WHERE player_id = ANY(:playerIds)", nativeQuery = true)
+	int nullifyPlayerReferences(@Param("playerIds") UUID[] playerIds);
+
+	/**
+	 * Streams all scores created at or after the given time in (created_at, id) order. The rows are fetched from the
+	 * database in portions of the fetch size while the stream is consumed; it must be consumed inside a transaction and
+	 * closed afterwards.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+	@Query(value = """
+		SELECT s.id AS id, s.player_id AS playerId, s.game_id AS gameId, s.sequence_index AS sequenceIndex,
+		       s.total_points AS totalPoints, s.created_at AS createdAt
+		FROM player_score s
+		WHERE s.created_at >= :from
+		ORDER BY s.created_at, s.id
+		""", nativeQuery = true)
+	Stream<PlayerScoreView> streamAllCreatedFrom(@Param("from") OffsetDateTime from);
 
+	/**
+	 * Streams the scores of one player created at or after the given time in sequence order.
+	 *
+	 * @see #streamAllCreatedFrom(OffsetDateTime)
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
 	@Query(value = """
-		SELECT ps.*
-		FROM player_score ps
-		INNER JOIN (
-		    SELECT player_id, MAX(sequence_index) as max_seq
-		    FROM player_score
-		    WHERE player_id IN :playerIds
-		    GROUP BY player_id
-		) latest ON ps.player_id = latest.player_id AND ps.sequence_index = latest.max_seq
+		SELECT s.id AS id, s.player_id AS playerId, s.game_id AS gameId, s.sequence_index AS sequenceIndex,
+		       s.total_points AS totalPoints, s.created_at AS createdAt
+		FROM player_score s
+		WHERE s.player_id = :playerId AND s.created_at >= :from
+		ORDER BY s.sequence_index
 		""", nativeQuery = true)
-	List<PlayerScoreEntity> findLatestScoresForPlayers(@Param("playerIds") List<UUID> playerIds);
+	Stream<PlayerScoreView> streamByPlayerIdCreatedFrom(@Param("playerId") UUID playerId,
+		@Param("from") OffsetDateTime from);
 }
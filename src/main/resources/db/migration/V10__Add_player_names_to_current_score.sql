@@ -0,0 +1,68 @@
+-- Table: player_current_score
+-- Description: Copies the player's name into the projection, so the complete ranking key
+-- (total_points DESC, last_name, first_name, player_id) lives in one index. A keyset cursor inside a
+-- group of equal scores then seeks to its position instead of reading and sorting the whole group.
+-- The names are maintained by triggers on player in the same transaction as every player write.
+
+ALTER TABLE player_current_score ADD COLUMN last_name VARCHAR;
+ALTER TABLE player_current_score ADD COLUMN first_name VARCHAR;
+
+UPDATE player_current_score cs
+SET last_name = p.last_name, first_name = p.first_name
+FROM player p
+WHERE p.id = cs.player_id;
+
+ALTER TABLE player_current_score ALTER COLUMN last_name SET NOT NULL;
+ALTER TABLE player_current_score ALTER COLUMN first_name SET NOT NULL;
+
+COMMENT ON COLUMN player_current_score.last_name IS 'Copy of player.last_name for the ranking index';
+COMMENT ON COLUMN player_current_score.first_name IS 'Copy of player.first_name for the ranking index';
+
+-- Index on the complete ranking key, replacing the index on (total_points DESC, player_id)
+DROP INDEX player_current_score_total_points_IDX;
+CREATE INDEX player_current_score_ranking_IDX
+    ON player_current_score(total_points DESC, last_name, first_name, player_id);
+
+-- Every new player starts with an empty score snapshot carrying its name
+CREATE OR REPLACE FUNCTION player_current_score_init() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO player_current_score (player_id, last_name, first_name)
+    VALUES (NEW.id, NEW.last_name, NEW.first_name)
+    ON CONFLICT (player_id) DO NOTHING;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Every new score replaces the snapshot unless a later score of the player is already stored
+CREATE OR REPLACE FUNCTION player_current_score_apply() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.player_id IS NOT NULL THEN
+        INSERT INTO player_current_score (player_id, last_name, first_name, total_points, sequence_index, updated_at)
+        SELECT p.id, p.last_name, p.first_name, COALESCE(NEW.total_points, 0), NEW.sequence_index, NEW.created_at
+        FROM player p
+        WHERE p.id = NEW.player_id
+        ON CONFLICT (player_id) DO UPDATE
+            SET total_points = EXCLUDED.total_points,
+                sequence_index = EXCLUDED.sequence_index,
+                updated_at = EXCLUDED.updated_at
+            WHERE player_current_score.sequence_index <= EXCLUDED.sequence_index;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Renamed players keep their copy of the name current
+CREATE FUNCTION player_current_score_rename() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE player_current_score
+    SET last_name = NEW.last_name, first_name = NEW.first_name
+    WHERE player_id = NEW.id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER player_current_score_rename_TRG
+    AFTER UPDATE OF last_name, first_name ON player
+    FOR EACH ROW
+    WHEN (OLD.last_name IS DISTINCT FROM NEW.last_name OR OLD.first_name IS DISTINCT FROM NEW.first_name)
+    EXECUTE FUNCTION player_current_score_rename();
@@ -0,0 +1,9 @@
+-- Table: player_current_score
+-- Description: Orders the copied names of the ranking by the "C" collation, i.e. by their UTF-8 bytes.
+-- The in-memory leaderboard compares names by code point, which is the same order; under a linguistic
+-- collation ties of mixed case or umlauts were ranked differently, so a keyset cursor handed out by one
+-- side skipped or repeated players on the other. Changing the type rebuilds player_current_score_ranking_IDX.
+-- player.last_name/first_name keep the database collation for the name listing and the lower() unique index.
+
+ALTER TABLE player_current_score ALTER COLUMN last_name TYPE VARCHAR COLLATE "C";
+ALTER TABLE player_current_score ALTER COLUMN first_name TYPE VARCHAR COLLATE "C";
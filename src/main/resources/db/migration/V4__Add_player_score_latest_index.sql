@@ -0,0 +1,8 @@
+-- Index: player_score_player_sequence_IDX
+-- Description: Supports resolving the latest score of a player (highest sequence_index)
+-- with a single index probe, as used by the score ordered player listing.
+-- The included columns allow an index-only lookup of the current score snapshot.
+
+CREATE INDEX player_score_player_sequence_IDX
+    ON player_score(player_id, sequence_index DESC)
+    INCLUDE (total_points, created_at);
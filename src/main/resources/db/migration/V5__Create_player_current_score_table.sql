@@ -0,0 +1,77 @@
+-- Table: player_current_score
+-- Description: One row per player holding the latest cumulative score snapshot
+-- The table is a projection of player_score and is maintained by triggers in the same
+-- transaction that writes player and player_score rows, so reads never aggregate the history
+
+CREATE TABLE player_current_score (
+    -- Reference to the player (primary key, one row per player)
+    player_id UUID PRIMARY KEY,
+
+    -- Total cumulative points of the latest score (0 if the player has no score yet)
+    total_points INTEGER NOT NULL DEFAULT 0,
+
+    -- Sequence index of the latest score (0 if the player has no score yet)
+    sequence_index INTEGER NOT NULL DEFAULT 0,
+
+    -- Creation timestamp of the latest score (NULL if the player has no score yet)
+    updated_at TIMESTAMP WITH TIME ZONE,
+
+    -- The projection row disappears together with the player
+    CONSTRAINT player_current_score_player_FK FOREIGN KEY (player_id) REFERENCES player(id) ON DELETE CASCADE
+);
+
+-- Index on total_points for the score ordered player listing
+CREATE INDEX player_current_score_total_points_IDX ON player_current_score(total_points DESC, player_id);
+
+-- Add comments to columns
+COMMENT ON TABLE player_current_score IS 'Latest cumulative score per player, maintained by triggers on player and player_score';
+COMMENT ON COLUMN player_current_score.player_id IS 'Reference to the player';
+COMMENT ON COLUMN player_current_score.total_points IS 'Total cumulative points of the latest score';
+COMMENT ON COLUMN player_current_score.sequence_index IS 'Sequence index of the latest score';
+COMMENT ON COLUMN player_current_score.updated_at IS 'Creation timestamp of the latest score';
+
+-- Every new player starts with an empty score snapshot
+CREATE FUNCTION player_current_score_init() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO player_current_score (player_id)
+    VALUES (NEW.id)
+    ON CONFLICT (player_id) DO NOTHING;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER player_current_score_init_TRG
+    AFTER INSERT ON player
+    FOR EACH ROW EXECUTE FUNCTION player_current_score_init();
+
+-- Every new score replaces the snapshot unless a later score of the player is already stored
+CREATE FUNCTION player_current_score_apply() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.player_id IS NOT NULL THEN
+        INSERT INTO player_current_score (player_id, total_points, sequence_index, updated_at)
+        VALUES (NEW.player_id, COALESCE(NEW.total_points, 0), NEW.sequence_index, NEW.created_at)
+        ON CONFLICT (player_id) DO UPDATE
+            SET total_points = EXCLUDED.total_points,
+                sequence_index = EXCLUDED.sequence_index,
+                updated_at = EXCLUDED.updated_at
+            WHERE player_current_score.sequence_index <= EXCLUDED.sequence_index;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER player_current_score_apply_TRG
+    AFTER INSERT ON player_score
+    FOR EACH ROW EXECUTE FUNCTION player_current_score_apply();
+
+-- Backfill the projection from the existing score history
+INSERT INTO player_current_score (player_id, total_points, sequence_index, updated_at)
+SELECT p.id, COALESCE(latest.total_points, 0), COALESCE(latest.sequence_index, 0), latest.created_at
+FROM player p
+LEFT JOIN LATERAL (
+    SELECT s.total_points, s.sequence_index, s.created_at
+    FROM player_score s
+    WHERE s.player_id = p.id
+    ORDER BY s.sequence_index DESC
+    LIMIT 1
+) latest ON true;
@@ -0,0 +1,5 @@
+-- Index: player_last_name_first_name_IDX
+-- Description: Covers the complete name sort key (last_name, first_name, id) of the player listing,
+-- so keyset pagination can seek directly to the position after the cursor instead of skipping rows.
+
+CREATE INDEX player_last_name_first_name_IDX ON player(last_name, first_name, id);
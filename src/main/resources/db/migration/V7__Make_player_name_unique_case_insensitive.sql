@@ -0,0 +1,8 @@
+-- Index: player_first_last_name_UQ
+-- Description: Replaces the case-sensitive unique constraint on (first_name, last_name) with a
+-- unique functional index on the lower-cased names. Player names are unique regardless of case,
+-- and inserts/updates rely on this index to detect duplicates atomically instead of checking first.
+
+ALTER TABLE player DROP CONSTRAINT player_first_last_name_UQ;
+
+CREATE UNIQUE INDEX player_first_last_name_UQ ON player (lower(first_name), lower(last_name));
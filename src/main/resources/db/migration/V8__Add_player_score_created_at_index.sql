@@ -0,0 +1,5 @@
+-- Index: player_score_created_at_IDX
+-- Description: Covers the sort key (created_at, id) of the score export, so GET /api/player-scores?from=...
+-- reads the requested range in order instead of sorting the whole history.
+
+CREATE INDEX player_score_created_at_IDX ON player_score(created_at, id);
@@ -0,0 +1,70 @@
+-- Table: game_participant
+-- Description: One row per player and game, normalizing the player1_id, player2_id, player3_id and
+-- main_player_id columns of game so lookups by player are index-driven instead of OR-scans of game.
+-- The table is maintained by a trigger on game in the same transaction as every game write.
+
+CREATE TABLE game_participant (
+    -- Reference to the game (required)
+    game_id UUID NOT NULL,
+
+    -- Reference to the player (required)
+    player_id UUID NOT NULL,
+
+    -- Seat of the player (1-3), NULL if the player is only referenced as main player
+    seat SMALLINT,
+
+    -- Whether the player is the main player of the game
+    main_player BOOLEAN NOT NULL DEFAULT FALSE,
+
+    -- Copy of game.played_at for the per-player history order
+    played_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    CONSTRAINT game_participant_PK PRIMARY KEY (game_id, player_id),
+    CONSTRAINT game_participant_seat_CHK CHECK (seat BETWEEN 1 AND 3),
+    CONSTRAINT game_participant_game_FK FOREIGN KEY (game_id) REFERENCES game(id) ON DELETE CASCADE,
+    CONSTRAINT game_participant_player_FK FOREIGN KEY (player_id) REFERENCES player(id) ON DELETE CASCADE
+);
+
+-- Index on player_id and played_at for reference checks and the per-player game history (newest first)
+CREATE INDEX game_participant_player_played_at_IDX ON game_participant(player_id, played_at, game_id);
+
+-- Add comments to columns
+COMMENT ON TABLE game_participant IS 'Players of every game, maintained by a trigger on game';
+COMMENT ON COLUMN game_participant.game_id IS 'Reference to the game';
+COMMENT ON COLUMN game_participant.player_id IS 'Reference to the player';
+COMMENT ON COLUMN game_participant.seat IS 'Seat of the player (1-3), NULL if only referenced as main player';
+COMMENT ON COLUMN game_participant.main_player IS 'Whether the player is the main player of the game';
+COMMENT ON COLUMN game_participant.played_at IS 'Copy of game.played_at';
+
+-- Every inserted or re-seated game rewrites its participant rows; a player sitting in several
+-- columns of the same game is stored once with the lowest seat
+CREATE FUNCTION game_participant_sync() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        DELETE FROM game_participant WHERE game_id = OLD.id;
+    END IF;
+    INSERT INTO game_participant (game_id, player_id, seat, main_player, played_at)
+    SELECT NEW.id, seats.player_id, MIN(seats.seat),
+           BOOL_OR(seats.player_id IS NOT DISTINCT FROM NEW.main_player_id), NEW.played_at
+    FROM (VALUES (NEW.player1_id, 1), (NEW.player2_id, 2), (NEW.player3_id, 3), (NEW.main_player_id, NULL))
+        AS seats(player_id, seat)
+    WHERE seats.player_id IS NOT NULL
+    GROUP BY seats.player_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER game_participant_sync_TRG
+    AFTER INSERT OR UPDATE OF player1_id, player2_id, player3_id, main_player_id, played_at ON game
+    FOR EACH ROW EXECUTE FUNCTION game_participant_sync();
+
+-- Backfill the participants of the existing games
+INSERT INTO game_participant (game_id, player_id, seat, main_player, played_at)
+SELECT g.id, seats.player_id, MIN(seats.seat),
+       BOOL_OR(seats.player_id IS NOT DISTINCT FROM g.main_player_id), g.played_at
+FROM game g
+CROSS JOIN LATERAL (
+    VALUES (g.player1_id, 1), (g.player2_id, 2), (g.player3_id, 3), (g.main_player_id, NULL)
+) AS seats(player_id, seat)
+WHERE seats.player_id IS NOT NULL
+GROUP BY g.id, seats.player_id, g.played_at;
@@ -0,0 +1,81 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the actuator endpoints following ADR-001, ADR-008, and ADR-012. Metrics export is disabled in
+ * tests by default and enabled here with {@link AutoConfigureObservability}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+class ActuatorIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void given_servedRequests_when_scrapingPrometheus_then_requestPoolAndHibernateMetricsArePublished() {
+        // Given
+        restTemplate.postForEntity("/api/players", new UpsertPlayerRequest("Anna", "Schmidt"), PlayerTO.class);
+        restTemplate.getForEntity("/api/players?sort=NAME", PlayerListResponseTO.class);
+
+        // When
+        var response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+            .containsPattern("http_server_requests_seconds_bucket\\{.*uri=\"/api/players\".*le=")
+            .containsPattern(
+                "spring_data_repository_invocations_seconds_bucket\\{.*method=\"findAllOrderedByName\".*le=")
+            .containsPattern("spring_data_repository_invocations_seconds_count\\{.*method=\"count\"")
+            .contains("hikaricp_connections_active")
+            .contains("hikaricp_connections_pending")
+            .contains("hibernate_statements_total")
+            .contains("hibernate_second_level_cache_requests_total");
+    }
+
+    @Test
+    void given_runningApplication_when_checkingHealth_then_databaseIsUp() {
+        // When
+        var response = restTemplate.getForEntity("/actuator/health", String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("\"status\":\"UP\"");
+    }
+
+    @Test
+    void given_defaultExposure_when_requestingFlightRecording_then_endpointIsNotServed() {
+        // When
+        var response = restTemplate.postForEntity("/actuator/flightrecording", null, String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void given_defaultExposure_when_requestingSlowQueries_then_endpointIsNotServed() {
+        // When
+        var response = restTemplate.exchange("/actuator/slowqueries", HttpMethod.DELETE, null, String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,106 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import java.nio.file.Files;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the flight recording actuator endpoint following ADR-001, ADR-008, and ADR-012. The endpoint
+ * is not exposed by default; it is enabled here as documented, on a separate management port bound to localhost.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "management.server.port=0",
+    "management.server.address=127.0.0.1",
+    "management.endpoints.web.exposure.include=flightrecording"
+})
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+class FlightRecordingIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @AfterEach
+    void stopRecording() {
+        restTemplate.delete(flightRecording());
+    }
+
+    @Test
+    void given_noRecording_when_downloading_then_notFound() {
+        // When
+        var response = restTemplate.getForEntity(flightRecording(), byte[].class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void given_startedRecording_when_listingPlayers_then_recordingContainsServiceAndRepositoryEvents() throws Exception {
+        // Given
+        var started = restTemplate.postForEntity(flightRecording(), null, String.class);
+        assertThat(started.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(started.getBody()).contains("\"state\":\"RUNNING\"");
+        restTemplate.postForEntity("/api/players", new UpsertPlayerRequest("Jonas", "Recorder"), PlayerTO.class);
+
+        // When
+        restTemplate.getForEntity("/api/players?sort=NAME&pageSize=20", PlayerListResponseTO.class);
+        var response = restTemplate.getForEntity(flightRecording(), byte[].class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        var file = Files.createTempFile("skat-it-", ".jfr");
+        try {
+            Files.write(file, response.getBody());
+            var events = RecordingFile.readAllEvents(file);
+            assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("com.skat.ServiceCall"))
+                .filteredOn(event -> "listPlayers".equals(event.getString("method")))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("service")).isEqualTo("PlayersService");
+                    assertThat(event.getInt("pageSize")).isEqualTo(20);
+                    assertThat(event.getString("sort")).isEqualTo("NAME");
+                    assertThat(event.getBoolean("keyset")).isFalse();
+                    assertThat(event.getInt("rows")).isPositive();
+                });
+            assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("com.skat.RepositoryCall"))
+                .map(FlightRecordingIT::describe)
+                .contains("PlayerRepository.findAllOrderedByName");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        // And the recording can be stopped
+        var stopped = restTemplate.exchange(flightRecording(), HttpMethod.DELETE, null, Void.class);
+        assertThat(stopped.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(restTemplate.getForEntity(flightRecording(), byte[].class).getStatusCode())
+            .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private String flightRecording() {
+        return "http://127.0.0.1:" + managementPort + "/actuator/flightrecording";
+    }
+
+    private static String describe(RecordedEvent event) {
+        return event.getString("repository") + "." + event.getString("method");
+    }
+}
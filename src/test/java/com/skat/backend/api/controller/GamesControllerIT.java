@@ -0,0 +1,339 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.dto.CreateGameRequest;
+import com.skat.backend.application.dto.ErrorResponseTO;
+import com.skat.backend.application.dto.GameTO;
+import com.skat.backend.application.dto.PlayerGameTO;
+import com.skat.backend.application.dto.PlayerGamesResponseTO;
+import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerRankTO;
+import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.leaderboard.LeaderboardService;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import com.skat.backend.domain.entities.PlayerScoreEntity;
+import com.skat.backend.domain.repositories.GameRepository;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for GamesController following ADR-001, ADR-008, and ADR-012.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+class GamesControllerIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerScoreRepository playerScoreRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        playerScoreRepository.deleteAll();
+        gameRepository.deleteAll();
+        playerRepository.deleteAll();
+        leaderboardService.reload();
+    }
+
+    @Test
+    void given_threePlayers_when_createGames_then_scoresAccumulatePerPlayer() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+
+        // When
+        var first = restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(anna, max, lisa, anna, 18, 36, OffsetDateTime.now()), GameTO.class);
+        var second = restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(anna, max, lisa, lisa, 20, -40, OffsetDateTime.now()), GameTO.class);
+
+        // Then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(first.getHeaders().getLocation()).isNotNull();
+        assertThat(first.getHeaders().getLocation().getPath()).isEqualTo("/api/games/" + first.getBody().id());
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        var annaScores = scoresOf(anna);
+        assertThat(annaScores).extracting(PlayerScoreEntity::getSequenceIndex).containsExactly(1, 2);
+        assertThat(annaScores).extracting(PlayerScoreEntity::getTotalPoints).containsExactly(36, 36);
+        var lisaScores = scoresOf(lisa);
+        assertThat(lisaScores).extracting(PlayerScoreEntity::getTotalPoints).containsExactly(0, -40);
+
+        var rank = restTemplate.getForEntity("/api/players/" + anna + "/rank", PlayerRankTO.class);
+        assertThat(rank.getBody()).isNotNull();
+        assertThat(rank.getBody().rank()).isEqualTo(1);
+        assertThat(rank.getBody().player().current_total_points()).isEqualTo(36);
+        assertThat(rank.getBody().player().current_sequence_index()).isEqualTo(2);
+    }
+
+    @Test
+    void given_storedGame_when_getGame_then_returns200WithGame() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        var created = restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(anna, max, lisa, max, 23, 46, OffsetDateTime.now()), GameTO.class).getBody();
+
+        // When
+        var response = restTemplate.getForEntity("/api/games/" + created.id(), GameTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().main_player_id()).isEqualTo(max);
+        assertThat(response.getBody().player3_id()).isEqualTo(lisa);
+        assertThat(response.getBody().bid_value()).isEqualTo(23);
+        assertThat(response.getBody().score()).isEqualTo(46);
+    }
+
+    @Test
+    void given_storedGame_when_playerIsForceDeleted_then_participantsFollowTheGameSeats() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        var game = restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(anna, max, lisa, max, 18, 36, OffsetDateTime.now()), GameTO.class).getBody();
+        assertThat(participants(game.id())).containsExactly(
+            Map.of("player_id", anna, "seat", 1, "main_player", false),
+            Map.of("player_id", max, "seat", 2, "main_player", true),
+            Map.of("player_id", lisa, "seat", 3, "main_player", false));
+
+        // When
+        restTemplate.delete("/api/players/" + max + "?forceDeletion=true");
+
+        // Then
+        assertThat(participants(game.id())).extracting(row -> row.get("player_id")).containsExactly(anna, lisa);
+        assertThat(restTemplate.getForEntity("/api/games/" + game.id(), GameTO.class).getBody().main_player_id())
+            .isNull();
+    }
+
+    @Test
+    void given_unknownGame_when_getGame_then_returns404() {
+        // When
+        var response = restTemplate.getForEntity("/api/games/" + UUID.randomUUID(), ErrorResponseTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void given_unknownPlayer_when_createGame_then_returns404AndStoresNothing() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+
+        // When
+        var response = restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(anna, max, UUID.randomUUID(), anna, 18, 36, OffsetDateTime.now()),
+            ErrorResponseTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().field()).isEqualTo("player3_id");
+        assertThat(gameRepository.count()).isZero();
+        assertThat(playerScoreRepository.count()).isZero();
+    }
+
+    @Test
+    void given_invalidRequest_when_createGame_then_returns400() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+
+        // When
+        var repeated = restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(anna, max, max, anna, 18, 36, OffsetDateTime.now()), ErrorResponseTO.class);
+        var lowBid = restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(anna, max, UUID.randomUUID(), anna, 10, 36, OffsetDateTime.now()),
+            ErrorResponseTO.class);
+
+        // Then
+        assertThat(repeated.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(lowBid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(lowBid.getBody()).isNotNull();
+        assertThat(lowBid.getBody().field()).isEqualTo("bid_value");
+    }
+
+    @Test
+    void given_playerWithGames_when_listPlayerGames_then_walksGamesNewestFirstWithScores() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        var tom = createPlayer("Tom", "Weber");
+        var start = OffsetDateTime.parse("2025-10-23T18:00:00Z");
+        var first = createGame(new CreateGameRequest(anna, max, lisa, anna, 18, 36, start));
+        var second = createGame(new CreateGameRequest(anna, max, lisa, max, 20, 40, start.plusMinutes(10)));
+        createGame(new CreateGameRequest(max, lisa, tom, tom, 18, 36, start.plusMinutes(15)));
+        var third = createGame(new CreateGameRequest(lisa, tom, anna, anna, 23, -46, start.plusMinutes(20)));
+
+        // When
+        var firstPage = restTemplate.getForEntity("/api/players/" + anna + "/games?pageSize=2",
+            PlayerGamesResponseTO.class);
+        var secondPage = restTemplate.getForEntity("/api/players/" + anna + "/games?pageSize=2&cursor="
+            + firstPage.getBody().next_cursor(), PlayerGamesResponseTO.class);
+
+        // Then
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody().items()).extracting(item -> item.game().id())
+            .containsExactly(third.id(), second.id());
+        assertThat(firstPage.getBody().items()).extracting(PlayerGameTO::sequence_index).containsExactly(3, 2);
+        assertThat(firstPage.getBody().items()).extracting(PlayerGameTO::total_points).containsExactly(-10, 36);
+        assertThat(firstPage.getBody().next_cursor()).isNotNull();
+
+        assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondPage.getBody().items()).extracting(item -> item.game().id()).containsExactly(first.id());
+        assertThat(secondPage.getBody().items().get(0).game().main_player_id()).isEqualTo(anna);
+        assertThat(secondPage.getBody().items()).extracting(PlayerGameTO::total_points).containsExactly(36);
+        assertThat(secondPage.getBody().next_cursor()).isNull();
+    }
+
+    @Test
+    void given_gamesPlayedAtTheSameTime_when_listPlayerGames_then_pagesNeitherSkipNorRepeatGames() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        var playedAt = OffsetDateTime.parse("2025-10-23T18:00:00Z");
+        var created = List.of(
+            createGame(new CreateGameRequest(anna, max, lisa, anna, 18, 36, playedAt)).id(),
+            createGame(new CreateGameRequest(anna, max, lisa, max, 18, 36, playedAt)).id(),
+            createGame(new CreateGameRequest(anna, max, lisa, lisa, 18, 36, playedAt)).id());
+
+        // When
+        var seen = new ArrayList<UUID>();
+        String cursor = null;
+        do {
+            var url = "/api/players/" + max + "/games?pageSize=1" + (cursor != null ? "&cursor=" + cursor : "");
+            var page = restTemplate.getForEntity(url, PlayerGamesResponseTO.class).getBody();
+            page.items().forEach(item -> seen.add(item.game().id()));
+            cursor = page.next_cursor();
+        } while (cursor != null);
+
+        // Then
+        // uuid columns order by their bytes, which matches the order of the canonical string form
+        var newestFirst = created.stream().sorted(Comparator.comparing(UUID::toString).reversed()).toList();
+        assertThat(seen).containsExactlyElementsOf(newestFirst);
+    }
+
+    @Test
+    void given_unknownPlayerOrInvalidCursor_when_listPlayerGames_then_returnsError() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+
+        // When
+        var unknown = restTemplate.getForEntity("/api/players/" + UUID.randomUUID() + "/games",
+            ErrorResponseTO.class);
+        var invalidCursor = restTemplate.getForEntity("/api/players/" + anna + "/games?cursor=not-a-cursor",
+            ErrorResponseTO.class);
+
+        // Then
+        assertThat(unknown.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(invalidCursor.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void given_playersWithGames_when_readingThroughTheApi_then_eachRequestIssuesAFixedNumberOfStatements() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        GameTO game = null;
+        for (var i = 0; i < 5; i++) {
+            game = createGame(new CreateGameRequest(anna, max, lisa, anna, 18, 36, OffsetDateTime.now()));
+        }
+        var gameId = game.id();
+
+        // When
+        var listingStatements = statementsDuring(() -> assertThat(
+            restTemplate.getForEntity("/api/players?sort=NAME", PlayerListResponseTO.class).getBody().items())
+            .hasSize(3));
+        // the stored game is served from the second-level cache
+        var gameStatements = statementsDuring(() -> assertThat(
+            restTemplate.getForEntity("/api/games/" + gameId, GameTO.class).getBody().main_player_id())
+            .isEqualTo(anna));
+        var historyStatements = statementsDuring(() -> assertThat(
+            restTemplate.getForEntity("/api/players/" + max + "/games", PlayerGamesResponseTO.class).getBody()
+                .items()).hasSize(5));
+        var scoreEntityStatements = statementsDuring(() -> assertThat(playerScoreRepository.findAll()).hasSize(15));
+
+        // Then
+        // page and total count, independent of the number of players and scores
+        assertThat(listingStatements).isEqualTo(2);
+        assertThat(gameStatements).isZero();
+        // player existence check and page
+        assertThat(historyStatements).isEqualTo(2);
+        // associations stay unloaded proxies instead of one select per referenced game and player
+        assertThat(scoreEntityStatements).isEqualTo(1);
+    }
+
+    private List<Map<String, Object>> participants(UUID gameId) {
+        return jdbcTemplate.queryForList(
+            "SELECT player_id, seat, main_player FROM game_participant WHERE game_id = ? ORDER BY seat", gameId);
+    }
+
+    private long statementsDuring(Runnable action) {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private GameTO createGame(CreateGameRequest request) {
+        return restTemplate.postForEntity("/api/games", request, GameTO.class).getBody();
+    }
+
+    private UUID createPlayer(String firstName, String lastName) {
+        return restTemplate.postForEntity("/api/players", new UpsertPlayerRequest(firstName, lastName),
+            PlayerTO.class).getBody().id();
+    }
+
+    private List<PlayerScoreEntity> scoresOf(UUID playerId) {
+        return playerScoreRepository.findAll().stream()
+            .filter(score -> score.getPlayer() != null && score.getPlayer().getId().equals(playerId))
+            .sorted(Comparator.comparing(PlayerScoreEntity::getSequenceIndex))
+            .toList();
+    }
+}
@@ -0,0 +1,152 @@
+package com.skat.backend.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skat.backend.application.dto.CreateGameRequest;
+import com.skat.backend.application.dto.GameTO;
+import com.skat.backend.application.dto.PlayerScoreTO;
+import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.leaderboard.LeaderboardService;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import com.skat.backend.domain.repositories.GameRepository;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for PlayerScoresController following ADR-001, ADR-008, and ADR-012.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+class PlayerScoresControllerIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerScoreRepository playerScoreRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        playerScoreRepository.deleteAll();
+        gameRepository.deleteAll();
+        playerRepository.deleteAll();
+        leaderboardService.reload();
+    }
+
+    @Test
+    void given_storedGames_when_exportPlayerScores_then_streamsOneJsonLinePerScore() throws Exception {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        var from = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1);
+        createGame(anna, max, lisa, anna, 36);
+        createGame(anna, max, lisa, max, 24);
+
+        // When
+        var response = restTemplate.getForEntity("/api/player-scores?from=" + from, String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        var scores = parse(response.getBody());
+        assertThat(scores).hasSize(6);
+        assertThat(scores).allSatisfy(score -> assertThat(score.created_at()).isAfterOrEqualTo(from));
+    }
+
+    @Test
+    void given_playerFilter_when_exportPlayerScores_then_streamsScoresOfThatPlayerInSequence() throws Exception {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        var from = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1);
+        createGame(anna, max, lisa, anna, 36);
+        createGame(anna, max, lisa, anna, -24);
+
+        // When
+        var response = restTemplate.getForEntity("/api/player-scores?from=" + from + "&player_id=" + anna,
+            String.class);
+
+        // Then
+        var scores = parse(response.getBody());
+        assertThat(scores).extracting(PlayerScoreTO::player_id).containsOnly(anna);
+        assertThat(scores).extracting(PlayerScoreTO::sequence_index).containsExactly(1, 2);
+        assertThat(scores).extracting(PlayerScoreTO::total_points).containsExactly(36, 12);
+    }
+
+    @Test
+    void given_fromAfterAllScores_when_exportPlayerScores_then_returnsEmptyBody() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        createGame(anna, max, lisa, anna, 36);
+        var from = OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(1);
+
+        // When
+        var response = restTemplate.getForEntity("/api/player-scores?from=" + from, String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void given_missingOrInvalidFrom_when_exportPlayerScores_then_returns400() {
+        // When
+        var missing = restTemplate.getForEntity("/api/player-scores", String.class);
+        var invalid = restTemplate.getForEntity("/api/player-scores?from=yesterday", String.class);
+
+        // Then
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private List<PlayerScoreTO> parse(String body) throws Exception {
+        try (var lines = objectMapper.readerFor(PlayerScoreTO.class).<PlayerScoreTO>readValues(body)) {
+            return lines.readAll();
+        }
+    }
+
+    private UUID createPlayer(String firstName, String lastName) {
+        return restTemplate.postForEntity("/api/players", new UpsertPlayerRequest(firstName, lastName),
+            PlayerTO.class).getBody().id();
+    }
+
+    private void createGame(UUID player1, UUID player2, UUID player3, UUID mainPlayer, int score) {
+        var response = restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(player1, player2, player3, mainPlayer, 18, score, OffsetDateTime.now()),
+            GameTO.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+}
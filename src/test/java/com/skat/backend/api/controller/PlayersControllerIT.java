@@ -1,8 +1,16 @@
 package com.skat.backend.api.controller;
 
+import com.skat.backend.application.dto.CreateGameRequest;
+import com.skat.backend.application.dto.DeletePlayersRequest;
+import com.skat.backend.application.dto.DeletePlayersResponseTO;
 import com.skat.backend.application.dto.ErrorResponseTO;
+import com.skat.backend.application.dto.GameTO;
 import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerRankTO;
 import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.leaderboard.LeaderboardService;
 import com.skat.backend.config.PostgresTestcontainersConfig;
 import com.skat.backend.domain.entities.GameEntity;
 import com.skat.backend.domain.entities.PlayerEntity;
@@ -10,6 +18,8 @@ import com.skat.backend.domain.entities.PlayerScoreEntity;
 import com.skat.backend.domain.repositories.GameRepository;
 import com.skat.backend.domain.repositories.PlayerRepository;
 import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,11 +30,21 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,11 +70,19 @@ class PlayersControllerIT {
     @Autowired
     private PlayerScoreRepository playerScoreRepository;
 
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setUp() {
         playerScoreRepository.deleteAll();
         gameRepository.deleteAll();
         playerRepository.deleteAll();
+        // Test data is written through the repositories, bypassing the events that keep the leaderboard current
+        leaderboardService.reload();
     }
 
     // AC-1: List players — default sorting and paging
@@ -79,6 +107,70 @@ class PlayersControllerIT {
         assertThat(response.getBody().sort().name()).isEqualTo("NAME");
     }
 
+    @Test
+    void given_unchangedData_when_listPlayersWithIfNoneMatch_then_returns304WithoutQueryingTheDatabase() {
+        // Given
+        restTemplate.postForEntity("/api/players", new UpsertPlayerRequest("Anna", "Schmidt"), PlayerTO.class);
+        var first = restTemplate.getForEntity("/api/players", PlayerListResponseTO.class);
+        var etag = first.getHeaders().getETag();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        var unchanged = restTemplate.exchange("/api/players", HttpMethod.GET, withIfNoneMatch(etag),
+            PlayerListResponseTO.class);
+        var unchangedStatements = statistics.getPrepareStatementCount();
+        restTemplate.postForEntity("/api/players", new UpsertPlayerRequest("Max", "Mueller"), PlayerTO.class);
+        var changed = restTemplate.exchange("/api/players", HttpMethod.GET, withIfNoneMatch(etag),
+            PlayerListResponseTO.class);
+
+        // Then
+        assertThat(etag).isNotNull().doesNotStartWith("W/");
+        assertThat(first.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(unchangedStatements).isZero();
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(changed.getBody().items()).hasSize(2);
+    }
+
+    @Test
+    void given_streamSubscriber_when_gameIsStored_then_receivesScoreChangesOfAllThreePlayers() throws Exception {
+        // Given
+        var anna = restTemplate.postForEntity("/api/players", new UpsertPlayerRequest("Anna", "Schmidt"),
+            PlayerTO.class).getBody().id();
+        var max = restTemplate.postForEntity("/api/players", new UpsertPlayerRequest("Max", "Mueller"),
+            PlayerTO.class).getBody().id();
+        var lisa = restTemplate.postForEntity("/api/players", new UpsertPlayerRequest("Lisa", "Bauer"),
+            PlayerTO.class).getBody().id();
+        var client = HttpClient.newHttpClient();
+        var request = HttpRequest.newBuilder(URI.create(restTemplate.getRootUri() + "/api/players/stream"))
+            .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+            .build();
+        var stream = client.sendAsync(request, HttpResponse.BodyHandlers.ofLines()).get(10, TimeUnit.SECONDS);
+
+        // When
+        restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(anna, max, lisa, anna, 18, 36, OffsetDateTime.now()), GameTO.class);
+
+        // Then
+        assertThat(stream.statusCode()).isEqualTo(200);
+        var reader = Executors.newSingleThreadExecutor();
+        var events = reader.submit(() -> stream.body()
+            .filter(line -> line.startsWith("data:"))
+            .limit(3)
+            .map(line -> line.substring("data:".length()))
+            .toList());
+        reader.shutdown();
+        assertThat(events.get(10, TimeUnit.SECONDS))
+            .anySatisfy(data -> assertThat(data).contains(anna.toString()).contains("\"total_points\":36")
+                .contains("\"sequence_index\":1"))
+            .anySatisfy(data -> assertThat(data).contains(max.toString()).contains("\"total_points\":0"))
+            .anySatisfy(data -> assertThat(data).contains(lisa.toString()));
+        stream.body().close();
+    }
+
     // AC-2: List players — score_desc ordering
     @Test
     void given_playersWithDifferentScores_when_listPlayersSortedByScore_then_returnsOrderedByScoreDesc() {
@@ -118,6 +210,7 @@ class PlayersControllerIT {
         score3.setTotalPoints(150);
         score3.setCreatedAt(OffsetDateTime.now());
         playerScoreRepository.save(score3);
+        leaderboardService.reload();
 
         // When
         var response = restTemplate.getForEntity("/api/players?sort=SCORE_DESC", PlayerListResponseTO.class);
@@ -135,6 +228,177 @@ class PlayersControllerIT {
         assertThat(response.getBody().sort().name()).isEqualTo("SCORE_DESC");
     }
 
+    @Test
+    void given_morePlayersThanPageSize_when_listPlayersSortedByScore_then_eachPageIsSliceOfGlobalRanking() {
+        // Given
+        var game = new GameEntity();
+        game.setPlayedAt(OffsetDateTime.now());
+        game = gameRepository.save(game);
+
+        var names = new String[] { "Anna", "Ben", "Carl", "Dora", "Emil" };
+        var points = new int[] { 10, 50, 30, 40, 20 };
+        for (var i = 0; i < names.length; i++) {
+            var player = playerRepository.save(new PlayerEntity(names[i], "Schmidt"));
+
+            // Older score that must not be used for ranking
+            var oldScore = new PlayerScoreEntity();
+            oldScore.setPlayer(player);
+            oldScore.setGame(game);
+            oldScore.setSequenceIndex(0);
+            oldScore.setTotalPoints(1000 - points[i]);
+            oldScore.setCreatedAt(OffsetDateTime.now());
+            playerScoreRepository.save(oldScore);
+
+            var latestScore = new PlayerScoreEntity();
+            latestScore.setPlayer(player);
+            latestScore.setGame(game);
+            latestScore.setSequenceIndex(1);
+            latestScore.setTotalPoints(points[i]);
+            latestScore.setCreatedAt(OffsetDateTime.now());
+            playerScoreRepository.save(latestScore);
+        }
+        leaderboardService.reload();
+
+        // When
+        var firstPage = restTemplate.getForEntity("/api/players?sort=SCORE_DESC&startIndex=0&pageSize=2",
+            PlayerListResponseTO.class);
+        var secondPage = restTemplate.getForEntity("/api/players?sort=SCORE_DESC&startIndex=2&pageSize=2",
+            PlayerListResponseTO.class);
+        var unalignedPage = restTemplate.getForEntity("/api/players?sort=SCORE_DESC&startIndex=3&pageSize=2",
+            PlayerListResponseTO.class);
+
+        // Then
+        assertThat(firstPage.getBody()).isNotNull();
+        assertThat(firstPage.getBody().items()).extracting(PlayerWithScoreTO::first_name)
+            .containsExactly("Ben", "Dora");
+        assertThat(secondPage.getBody()).isNotNull();
+        assertThat(secondPage.getBody().items()).extracting(PlayerWithScoreTO::first_name)
+            .containsExactly("Carl", "Emil");
+        assertThat(secondPage.getBody().items()).extracting(PlayerWithScoreTO::current_total_points)
+            .containsExactly(30, 20);
+        assertThat(unalignedPage.getBody()).isNotNull();
+        assertThat(unalignedPage.getBody().items()).extracting(PlayerWithScoreTO::first_name)
+            .containsExactly("Emil", "Anna");
+        assertThat(unalignedPage.getBody().paging().total()).isEqualTo(5);
+
+        var keysetPage = restTemplate.getForEntity(
+            "/api/players?sort=SCORE_DESC&pageSize=2&cursor=" + firstPage.getBody().next_cursor(),
+            PlayerListResponseTO.class);
+        assertThat(keysetPage.getBody()).isNotNull();
+        assertThat(keysetPage.getBody().items()).extracting(PlayerWithScoreTO::first_name)
+            .containsExactly("Carl", "Emil");
+    }
+
+    @Test
+    void given_morePlayersThanPageSize_when_followingNextCursor_then_visitsEveryPlayerOnceInOrder() {
+        // Given
+        var names = new String[] { "Emil", "Anna", "Dora", "Carl", "Ben" };
+        for (var name : names) {
+            playerRepository.save(new PlayerEntity(name, "Schmidt"));
+        }
+
+        // When
+        var firstPage = restTemplate.getForEntity("/api/players?pageSize=2", PlayerListResponseTO.class);
+        var secondPage = restTemplate.getForEntity("/api/players?pageSize=2&cursor=" + firstPage.getBody().next_cursor(),
+            PlayerListResponseTO.class);
+        var lastPage = restTemplate.getForEntity("/api/players?pageSize=2&cursor=" + secondPage.getBody().next_cursor(),
+            PlayerListResponseTO.class);
+
+        // Then
+        assertThat(firstPage.getBody().items()).extracting(PlayerWithScoreTO::first_name)
+            .containsExactly("Anna", "Ben");
+        assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondPage.getBody().items()).extracting(PlayerWithScoreTO::first_name)
+            .containsExactly("Carl", "Dora");
+        assertThat(lastPage.getBody().items()).extracting(PlayerWithScoreTO::first_name)
+            .containsExactly("Emil");
+        assertThat(lastPage.getBody().next_cursor()).isNull();
+    }
+
+    @Test
+    void given_cursorOfOtherSort_when_listPlayers_then_returns400() {
+        // Given
+        playerRepository.save(new PlayerEntity("Anna", "Schmidt"));
+        var nameCursor = restTemplate.getForEntity("/api/players?pageSize=1", PlayerListResponseTO.class)
+            .getBody().next_cursor();
+
+        // When
+        var response = restTemplate.getForEntity("/api/players?sort=SCORE_DESC&cursor=" + nameCursor,
+            ErrorResponseTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().error()).isEqualTo("bad_request");
+    }
+
+    @Test
+    void given_rankedPlayers_when_getPlayerRank_then_returnsRankAndNeighbors() {
+        // Given
+        var game = new GameEntity();
+        game.setPlayedAt(OffsetDateTime.now());
+        game = gameRepository.save(game);
+
+        var names = new String[] { "Anna", "Ben", "Carl", "Dora" };
+        var points = new int[] { 10, 40, 30, 20 };
+        var ids = new UUID[names.length];
+        for (var i = 0; i < names.length; i++) {
+            var player = playerRepository.save(new PlayerEntity(names[i], "Schmidt"));
+            ids[i] = player.getId();
+            var score = new PlayerScoreEntity();
+            score.setPlayer(player);
+            score.setGame(game);
+            score.setSequenceIndex(0);
+            score.setTotalPoints(points[i]);
+            score.setCreatedAt(OffsetDateTime.now());
+            playerScoreRepository.save(score);
+        }
+        leaderboardService.reload();
+
+        // When
+        var response = restTemplate.getForEntity("/api/players/" + ids[2] + "/rank?neighbors=1", PlayerRankTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().rank()).isEqualTo(2);
+        assertThat(response.getBody().total_players()).isEqualTo(4);
+        assertThat(response.getBody().player().first_name()).isEqualTo("Carl");
+        assertThat(response.getBody().above()).extracting(PlayerWithScoreTO::first_name).containsExactly("Ben");
+        assertThat(response.getBody().below()).extracting(PlayerWithScoreTO::first_name).containsExactly("Dora");
+    }
+
+    @Test
+    void given_playerCreatedAndDeletedViaApi_when_listPlayersSortedByScore_then_leaderboardFollowsWrites() {
+        // Given
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        var created = restTemplate.postForEntity("/api/players",
+            new HttpEntity<>("{\"first_name\": \"Anna\", \"last_name\": \"Schmidt\"}", headers), PlayerTO.class);
+        restTemplate.postForEntity("/api/players",
+            new HttpEntity<>("{\"first_name\": \"Max\", \"last_name\": \"Mueller\"}", headers), PlayerTO.class);
+
+        // When
+        restTemplate.delete("/api/players/" + created.getBody().id());
+        var response = restTemplate.getForEntity("/api/players?sort=SCORE_DESC", PlayerListResponseTO.class);
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().items()).extracting(PlayerWithScoreTO::first_name).containsExactly("Max");
+        assertThat(response.getBody().paging().total()).isEqualTo(1);
+    }
+
+    @Test
+    void given_nonExistentPlayer_when_getPlayerRank_then_returns404() {
+        // When
+        var response = restTemplate.getForEntity("/api/players/" + UUID.randomUUID() + "/rank", ErrorResponseTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().error()).isEqualTo("not_found");
+    }
+
     // AC-3: List players — parameter validation
     @Test
     void given_invalidPageSize_when_listPlayers_then_returns400() {
@@ -228,6 +492,61 @@ class PlayersControllerIT {
         assertThat(response.getBody().field()).isEqualTo("first_name,last_name");
     }
 
+    @Test
+    void given_existingPlayerName_when_createPlayerWithDifferentCase_then_returns409() {
+        // Given
+        playerRepository.save(new PlayerEntity("Anna", "Schmidt"));
+
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        var request = new HttpEntity<>("""
+            {
+                "first_name": "ANNA",
+                "last_name": "schmidt"
+            }
+            """, headers);
+
+        // When
+        var response = restTemplate.postForEntity("/api/players", request, ErrorResponseTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().field()).isEqualTo("first_name,last_name");
+        assertThat(playerRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    void given_concurrentRegistrationsOfSameName_when_createPlayer_then_exactlyOneIsCreated() throws Exception {
+        // Given
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        var request = new HttpEntity<>("""
+            {
+                "first_name": "Anna",
+                "last_name": "Schmidt"
+            }
+            """, headers);
+        var executor = Executors.newFixedThreadPool(8);
+
+        // When
+        var statuses = new ArrayList<Future<HttpStatusCode>>();
+        for (var i = 0; i < 16; i++) {
+            statuses.add(executor.submit(
+                () -> restTemplate.postForEntity("/api/players", request, String.class).getStatusCode()));
+        }
+        var results = new ArrayList<HttpStatusCode>();
+        for (var status : statuses) {
+            results.add(status.get());
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(results).filteredOn(status -> status.equals(HttpStatus.CREATED)).hasSize(1);
+        assertThat(results).filteredOn(status -> status.equals(HttpStatus.CONFLICT)).hasSize(15);
+        assertThat(playerRepository.findAll()).hasSize(1);
+    }
+
     @Test
     void given_missingFirstName_when_createPlayer_then_returns400() {
         // Given
@@ -394,6 +713,23 @@ class PlayersControllerIT {
         assertThat(updatedPlayer.getLastName()).isEqualTo("Mueller");
     }
 
+    @Test
+    void given_cachedPlayer_when_updatePlayer_then_secondLevelCacheServesTheLatestName() {
+        // Given
+        var player = playerRepository.save(new PlayerEntity("Anna", "Schmidt"));
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        restTemplate.put("/api/players/" + player.getId(), new UpsertPlayerRequest("Anna", "Mueller"));
+        var updatedPlayer = playerRepository.findById(player.getId()).orElseThrow();
+
+        // Then
+        assertThat(updatedPlayer.getLastName()).isEqualTo("Mueller");
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+    }
+
     // AC-8: Delete player — safe delete without references
     @Test
     void given_playerWithoutReferences_when_deletePlayerWithoutForce_then_returns204() {
@@ -548,6 +884,97 @@ class PlayersControllerIT {
         assertThat(response.getBody().error()).isEqualTo("not_found");
     }
 
+    @Test
+    void given_playersSharingGames_when_forceDeletePlayers_then_returns200AndNullifiesAllSeats() {
+        // Given
+        var anna = playerRepository.save(new PlayerEntity("Anna", "Schmidt"));
+        var max = playerRepository.save(new PlayerEntity("Max", "Mueller"));
+        var lisa = playerRepository.save(new PlayerEntity("Lisa", "Bauer"));
+
+        var game = new GameEntity();
+        game.setPlayer1(anna);
+        game.setPlayer2(max);
+        game.setPlayer3(lisa);
+        game.setMainPlayer(max);
+        game.setPlayedAt(OffsetDateTime.now());
+        game = gameRepository.save(game);
+
+        var score = new PlayerScoreEntity();
+        score.setPlayer(anna);
+        score.setGame(game);
+        score.setSequenceIndex(1);
+        score.setTotalPoints(100);
+        score.setCreatedAt(OffsetDateTime.now());
+        score = playerScoreRepository.save(score);
+        leaderboardService.reload();
+        var unknown = UUID.randomUUID();
+
+        // When
+        var response = restTemplate.exchange(
+            "/api/players?forceDeletion=true",
+            HttpMethod.DELETE,
+            new HttpEntity<>(new DeletePlayersRequest(List.of(anna.getId(), max.getId(), unknown))),
+            DeletePlayersResponseTO.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().deleted()).isEqualTo(2);
+        assertThat(response.getBody().not_found()).containsExactly(unknown);
+
+        assertThat(playerRepository.findAll()).extracting(PlayerEntity::getFirstName).containsExactly("Lisa");
+        var updatedGame = gameRepository.findById(game.getId()).orElseThrow();
+        assertThat(updatedGame.getPlayer1()).isNull();
+        assertThat(updatedGame.getPlayer2()).isNull();
+        assertThat(updatedGame.getMainPlayer()).isNull();
+        assertThat(updatedGame.getPlayer3()).isNotNull();
+        assertThat(playerScoreRepository.findById(score.getId()).orElseThrow().getPlayer()).isNull();
+
+        var list = restTemplate.getForEntity("/api/players?sort=SCORE_DESC", PlayerListResponseTO.class);
+        assertThat(list.getBody()).isNotNull();
+        assertThat(list.getBody().paging().total()).isEqualTo(1);
+    }
+
+    @Test
+    void given_referencedPlayer_when_deletePlayersWithoutForce_then_returns409AndDeletesNone() {
+        // Given
+        var anna = playerRepository.save(new PlayerEntity("Anna", "Schmidt"));
+        var max = playerRepository.save(new PlayerEntity("Max", "Mueller"));
+        var game = new GameEntity();
+        game.setPlayer3(max);
+        game.setPlayedAt(OffsetDateTime.now());
+        gameRepository.save(game);
+
+        // When
+        var response = restTemplate.exchange(
+            "/api/players",
+            HttpMethod.DELETE,
+            new HttpEntity<>(new DeletePlayersRequest(List.of(anna.getId(), max.getId()))),
+            ErrorResponseTO.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(playerRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void given_emptyIdList_when_deletePlayers_then_returns400() {
+        // When
+        var response = restTemplate.exchange(
+            "/api/players",
+            HttpMethod.DELETE,
+            new HttpEntity<>(new DeletePlayersRequest(List.of())),
+            ErrorResponseTO.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().field()).isEqualTo("ids");
+    }
+
     @Test
     void given_newPlayerWithoutScores_when_listPlayers_then_returnsPlayerWithZeroScore() {
         // Given
@@ -565,4 +992,10 @@ class PlayersControllerIT {
         assertThat(response.getBody().items().get(0).current_total_points()).isEqualTo(0);
         assertThat(response.getBody().items().get(0).current_sequence_index()).isEqualTo(0);
     }
+
+    private static HttpEntity<Void> withIfNoneMatch(String etag) {
+        var headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        return new HttpEntity<>(headers);
+    }
 }
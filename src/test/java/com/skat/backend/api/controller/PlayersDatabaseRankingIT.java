@@ -0,0 +1,114 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.leaderboard.LeaderboardEntry;
+import com.skat.backend.application.leaderboard.LeaderboardService;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import com.skat.backend.domain.entities.PlayerEntity;
+import com.skat.backend.domain.repositories.GameRepository;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the score ordered player listing served by the database (in-memory leaderboard disabled)
+ * following ADR-001, ADR-008, and ADR-012.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "skat.leaderboard.enabled=false")
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+class PlayersDatabaseRankingIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerScoreRepository playerScoreRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        playerScoreRepository.deleteAll();
+        gameRepository.deleteAll();
+        playerRepository.deleteAll();
+    }
+
+    @Test
+    void given_playersWithEqualPoints_when_followingScoreCursor_then_visitsEveryPlayerOnceInNameOrder() {
+        // Given
+        for (var lastName : List.of("Fuchs", "Adler", "Ente", "Bär", "Dachs", "Cobra", "Gans")) {
+            playerRepository.save(new PlayerEntity("Max", lastName));
+        }
+
+        // When
+        var lastNames = new ArrayList<String>();
+        var response = restTemplate.getForEntity("/api/players?sort=SCORE_DESC&pageSize=2", PlayerListResponseTO.class);
+        lastNames.addAll(lastNames(response.getBody()));
+        while (response.getBody().next_cursor() != null) {
+            response = restTemplate.getForEntity(
+                "/api/players?sort=SCORE_DESC&pageSize=2&cursor=" + response.getBody().next_cursor(),
+                PlayerListResponseTO.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            lastNames.addAll(lastNames(response.getBody()));
+        }
+
+        // Then
+        assertThat(lastNames).containsExactly("Adler", "Bär", "Cobra", "Dachs", "Ente", "Fuchs", "Gans");
+    }
+
+    @Test
+    void given_renamedPlayer_when_listPlayersSortedByScore_then_rankingUsesTheNewName() {
+        // Given
+        var anna = playerRepository.save(new PlayerEntity("Anna", "Adler"));
+        playerRepository.save(new PlayerEntity("Ben", "Becker"));
+        restTemplate.put("/api/players/" + anna.getId(), new UpsertPlayerRequest("Anna", "Zander"));
+
+        // When
+        var response = restTemplate.getForEntity("/api/players?sort=SCORE_DESC", PlayerListResponseTO.class);
+
+        // Then
+        assertThat(lastNames(response.getBody())).containsExactly("Becker", "Zander");
+    }
+
+    @Test
+    void given_tiesOfMixedCaseAndUmlauts_when_listingFromDatabase_then_orderMatchesTheLeaderboard() {
+        // Given
+        for (var lastName : List.of("adler", "Zander", "Bär", "Bz", "Öztürk", "Otto")) {
+            playerRepository.save(new PlayerEntity("Max", lastName));
+            playerRepository.save(new PlayerEntity("Moritz", lastName));
+        }
+        leaderboardService.reload();
+
+        // When
+        var response = restTemplate.getForEntity("/api/players?sort=SCORE_DESC&pageSize=100", PlayerListResponseTO.class);
+
+        // Then
+        assertThat(response.getBody().items()).extracting(PlayerWithScoreTO::id)
+            .containsExactlyElementsOf(leaderboardService.page(0, 100).stream().map(LeaderboardEntry::playerId).toList());
+    }
+
+    private static List<String> lastNames(PlayerListResponseTO page) {
+        return page.items().stream().map(PlayerWithScoreTO::last_name).toList();
+    }
+}
@@ -0,0 +1,120 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.dto.BulkPlayerImportResponseTO;
+import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.leaderboard.LeaderboardService;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import com.skat.backend.domain.repositories.GameRepository;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import com.skat.backend.loadtest.LoadTestReport;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares importing players one POST /api/players at a time with a single POST /api/players:bulk. Skipped by
+ * default; run with {@code mvn verify -Dit.test=PlayersImportBenchmarkIT -Dskat.benchmark=true}. The result is written
+ * to {@code target/benchmark/players-import-*.md}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "skat.benchmark", matches = "true")
+class PlayersImportBenchmarkIT {
+
+    private static final int PLAYERS = Integer.getInteger("skat.benchmark.players", 2000);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerScoreRepository playerScoreRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        playerScoreRepository.deleteAll();
+        gameRepository.deleteAll();
+        playerRepository.deleteAll();
+        leaderboardService.reload();
+    }
+
+    @Test
+    void compare_singleRowCreate_with_bulkImport() throws IOException {
+        // Warm up both paths so the first measurement does not pay for class loading and connection setup
+        singleRow("warmup-single", 50);
+        bulk("warmup-bulk", 50);
+
+        var singleMillis = singleRow("single", PLAYERS);
+        var bulkMillis = bulk("bulk", PLAYERS);
+
+        LoadTestReport.write(Path.of("target", "benchmark"), "players-import", String.format(Locale.ROOT, """
+            # Players import benchmark
+
+            - Players: %d
+
+            | Path | Duration (ms) | Throughput (rows/s) |
+            |---|---:|---:|
+            | single-row POST /api/players | %d | %.0f |
+            | bulk POST /api/players:bulk | %d | %.0f |
+
+            Speedup: %.1fx
+            """, PLAYERS, singleMillis, PLAYERS * 1000.0 / singleMillis, bulkMillis, PLAYERS * 1000.0 / bulkMillis,
+            (double) singleMillis / bulkMillis));
+        assertThat(playerRepository.count()).isEqualTo(2L * PLAYERS + 100);
+    }
+
+    private long singleRow(String lastName, int count) {
+        var start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            var response = restTemplate.postForEntity("/api/players",
+                new UpsertPlayerRequest("Player" + i, lastName), PlayerTO.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private long bulk(String lastName, int count) {
+        var body = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            body.append("{\"first_name\":\"Player").append(i).append("\",\"last_name\":\"").append(lastName)
+                .append("\"}\n");
+        }
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+
+        var start = System.nanoTime();
+        var response = restTemplate.postForEntity("/api/players:bulk", new HttpEntity<>(body.toString(), headers),
+            BulkPlayerImportResponseTO.class);
+        var millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created()).isEqualTo(count);
+        return millis;
+    }
+}
@@ -0,0 +1,185 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.dto.BulkPlayerImportResponseTO;
+import com.skat.backend.application.dto.BulkPlayerResultTO;
+import com.skat.backend.application.dto.BulkPlayerStatus;
+import com.skat.backend.application.dto.ErrorResponseTO;
+import com.skat.backend.application.PlayersService;
+import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.leaderboard.LeaderboardService;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import com.skat.backend.domain.entities.PlayerEntity;
+import com.skat.backend.domain.repositories.GameRepository;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for PlayersImportController (POST /api/players:bulk) against the full application context.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+class PlayersImportControllerIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerScoreRepository playerScoreRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private PlayersService playersService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        playerScoreRepository.deleteAll();
+        gameRepository.deleteAll();
+        playerRepository.deleteAll();
+        leaderboardService.reload();
+    }
+
+    @Test
+    void given_jsonArray_when_importPlayers_then_returns200WithResultPerRow() {
+        // Given
+        playerRepository.save(new PlayerEntity("Anna", "Schmidt"));
+        leaderboardService.reload();
+        var body = """
+            [
+              {"first_name": "Max", "last_name": "Mueller"},
+              {"first_name": "ANNA", "last_name": "schmidt"},
+              {"first_name": "Lisa", "last_name": ""},
+              {"first_name": "max", "last_name": "MUELLER"},
+              {"first_name": "Tom", "last_name": "Weber"}
+            ]
+            """;
+
+        // When
+        var response = restTemplate.postForEntity("/api/players:bulk", request(body, MediaType.APPLICATION_JSON),
+            BulkPlayerImportResponseTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created()).isEqualTo(2);
+        assertThat(response.getBody().conflicts()).isEqualTo(2);
+        assertThat(response.getBody().invalid()).isEqualTo(1);
+        assertThat(response.getBody().results()).extracting(BulkPlayerResultTO::status).containsExactly(
+            BulkPlayerStatus.CREATED, BulkPlayerStatus.CONFLICT, BulkPlayerStatus.INVALID, BulkPlayerStatus.CONFLICT,
+            BulkPlayerStatus.CREATED);
+        assertThat(response.getBody().results().get(0).id()).isNotNull();
+        assertThat(playerRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void given_ndjson_when_importPlayers_then_playersAreCreatedAndListed() {
+        // Given
+        var body = """
+            {"first_name": "Max", "last_name": "Mueller"}
+            {"first_name": "Lisa", "last_name": "Bauer"}
+            """;
+
+        // When
+        var response = restTemplate.postForEntity("/api/players:bulk", request(body, MediaType.APPLICATION_NDJSON),
+            BulkPlayerImportResponseTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created()).isEqualTo(2);
+
+        var list = restTemplate.getForEntity("/api/players?sort=SCORE_DESC", PlayerListResponseTO.class);
+        assertThat(list.getBody()).isNotNull();
+        assertThat(list.getBody().paging().total()).isEqualTo(2);
+    }
+
+    @Test
+    void given_malformedBody_when_importPlayers_then_returns400() {
+        // Given
+        var body = "[{\"first_name\": \"Max\", \"last_name\": ";
+
+        // When
+        var response = restTemplate.postForEntity("/api/players:bulk", request(body, MediaType.APPLICATION_JSON),
+            ErrorResponseTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().error()).isEqualTo("bad_request");
+    }
+
+    @Test
+    void given_malformedRowAfterValidRow_when_importPlayers_then_returns200WithErrorForThatRow() {
+        // Given
+        var body = """
+            {"first_name": "Anna", "last_name": "Schmidt"}
+            {"first_name": "Max", "last_name":
+            """;
+
+        // When
+        var response = restTemplate.postForEntity("/api/players:bulk", request(body, MediaType.APPLICATION_NDJSON),
+            BulkPlayerImportResponseTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created()).isEqualTo(1);
+        assertThat(response.getBody().results()).extracting(BulkPlayerResultTO::status)
+            .containsExactly(BulkPlayerStatus.CREATED, BulkPlayerStatus.INVALID);
+        assertThat(playerRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void given_namesWhoseCaseFoldingDependsOnCollation_when_createPlayers_then_conflictsMatchTheUniqueIndex() {
+        // Given: Java folds "ΟΔΟΣ" to "οδος" (final sigma); whether lower() does depends on the collation
+        var requests = List.of(
+            new UpsertPlayerRequest("Nikos", "ΟΔΟΣ"),
+            new UpsertPlayerRequest("Nikos", "οδοσ"),
+            new UpsertPlayerRequest("Deniz", "ÖLMEZ"),
+            new UpsertPlayerRequest("deniz", "ölmez"));
+        var foldedEqually = jdbcTemplate.queryForObject("SELECT lower('ΟΔΟΣ') = lower('οδοσ')", Boolean.class);
+
+        // When: the batch would fail the unique index on flush if the duplicate check folded differently
+        var results = playersService.createPlayers(requests);
+
+        // Then
+        assertThat(results).extracting(BulkPlayerResultTO::status).containsExactly(
+            BulkPlayerStatus.CREATED, foldedEqually ? BulkPlayerStatus.CONFLICT : BulkPlayerStatus.CREATED,
+            BulkPlayerStatus.CREATED, BulkPlayerStatus.CONFLICT);
+        assertThat(playerRepository.count()).isEqualTo(foldedEqually ? 2 : 3);
+    }
+
+    private static HttpEntity<String> request(String body, MediaType contentType) {
+        var headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        return new HttpEntity<>(body, headers);
+    }
+}
@@ -0,0 +1,289 @@
+package com.skat.backend.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skat.backend.application.dto.CreateGameRequest;
+import com.skat.backend.application.dto.GameTO;
+import com.skat.backend.application.dto.PlayerScoreTO;
+import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.PlayersSort;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.leaderboard.LeaderboardService;
+import com.skat.backend.application.reactive.ReactiveReadService;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import com.skat.backend.domain.entities.PlayerEntity;
+import com.skat.backend.domain.repositories.GameRepository;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.BaseSubscriber;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Integration test for ReactiveReadController following ADR-001, ADR-008, and ADR-012. Pages and the R2DBC pool are
+ * small, so streams span several pages and open streams outnumber the connections.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "skat.reactive.page-size=50",
+    "skat.reactive.pool.max-size=2",
+    "skat.reactive.pool.acquire-timeout=1s"
+})
+class ReactiveReadControllerIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerScoreRepository playerScoreRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private ReactiveReadService reactiveReadService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        playerScoreRepository.deleteAll();
+        gameRepository.deleteAll();
+        playerRepository.deleteAll();
+        leaderboardService.reload();
+    }
+
+    @Test
+    void given_playersWithScores_when_streamPlayers_then_streamsAllPlayersInRequestedOrder() throws Exception {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        createGame(anna, max, lisa, max, 48);
+        createGame(anna, max, lisa, anna, 24);
+
+        // When
+        var byName = restTemplate.getForEntity("/api/reactive/players", String.class);
+        var byScore = restTemplate.getForEntity("/api/reactive/players?sort=SCORE_DESC", String.class);
+
+        // Then
+        assertThat(byName.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(byName.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(parse(byName.getBody(), PlayerWithScoreTO.class))
+            .extracting(PlayerWithScoreTO::last_name)
+            .containsExactly("Bauer", "Mueller", "Schmidt");
+        var leaderboard = parse(byScore.getBody(), PlayerWithScoreTO.class);
+        assertThat(leaderboard).extracting(PlayerWithScoreTO::id).containsExactly(max, anna, lisa);
+        assertThat(leaderboard).extracting(PlayerWithScoreTO::current_total_points).containsExactly(48, 24, 0);
+        assertThat(leaderboard).extracting(PlayerWithScoreTO::current_sequence_index).containsExactly(2, 2, 2);
+    }
+
+    @Test
+    void given_moreRowsThanFetchSize_when_streamPlayers_then_allRowsArriveInOrder() throws Exception {
+        // Given
+        var players = IntStream.range(0, 230)
+            .mapToObj(i -> new PlayerEntity("Player", String.format("Name%04d", i)))
+            .toList();
+        playerRepository.saveAll(players);
+
+        // When
+        var response = restTemplate.getForEntity("/api/reactive/players", String.class);
+
+        // Then
+        var streamed = parse(response.getBody(), PlayerWithScoreTO.class);
+        assertThat(streamed).hasSize(230);
+        assertThat(streamed).isSortedAccordingTo(Comparator.comparing(PlayerWithScoreTO::last_name));
+    }
+
+    @Test
+    void given_storedGames_when_streamPlayerScores_then_streamsHistoryOfThatPlayerInSequence() throws Exception {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        createGame(anna, max, lisa, anna, 36);
+        createGame(anna, max, lisa, max, 20);
+        createGame(anna, max, lisa, anna, -24);
+
+        // When
+        var response = restTemplate.getForEntity("/api/reactive/players/" + anna + "/scores", String.class);
+        var unknown = restTemplate.getForEntity("/api/reactive/players/" + UUID.randomUUID() + "/scores",
+            String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        var scores = parse(response.getBody(), PlayerScoreTO.class);
+        assertThat(scores).extracting(PlayerScoreTO::player_id).containsOnly(anna);
+        assertThat(scores).extracting(PlayerScoreTO::sequence_index).containsExactly(1, 2, 3);
+        assertThat(scores).extracting(PlayerScoreTO::total_points).containsExactly(36, 36, 12);
+        assertThat(unknown.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(unknown.getBody()).isNull();
+    }
+
+    @Test
+    void given_storedGame_when_getGame_then_returnsSameGameAsBlockingApi() {
+        // Given
+        var anna = createPlayer("Anna", "Schmidt");
+        var max = createPlayer("Max", "Mueller");
+        var lisa = createPlayer("Lisa", "Bauer");
+        var game = createGame(anna, max, lisa, lisa, 60);
+
+        // When
+        var reactive = restTemplate.getForEntity("/api/reactive/games/" + game.id(), GameTO.class);
+        var blocking = restTemplate.getForEntity("/api/games/" + game.id(), GameTO.class);
+
+        // Then (the blocking API may answer from the second-level cache, before PostgreSQL's rounding to microseconds)
+        assertThat(reactive.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(reactive.getBody()).usingRecursiveComparison()
+            .ignoringFields("played_at")
+            .isEqualTo(blocking.getBody());
+        assertThat(reactive.getBody().played_at())
+            .isCloseTo(blocking.getBody().played_at(), within(1, ChronoUnit.MICROS));
+    }
+
+    @Test
+    void given_unknownGame_when_getGame_then_returns404() {
+        // When
+        var response = restTemplate.getForEntity("/api/reactive/games/" + UUID.randomUUID(), String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void given_subscriberRequestingOneRow_when_streamPlayers_then_demandIsRespectedWithoutJdbcConnection()
+        throws Exception {
+        // Given
+        playerRepository.saveAll(IntStream.range(0, 500)
+            .mapToObj(i -> new PlayerEntity("Player", String.format("Name%04d", i)))
+            .toList());
+        var received = new CopyOnWriteArrayList<PlayerWithScoreTO>();
+        var subscriber = new BaseSubscriber<PlayerWithScoreTO>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(PlayerWithScoreTO player) {
+                received.add(player);
+            }
+        };
+
+        // When
+        reactiveReadService.streamPlayers(PlayersSort.NAME).subscribe(subscriber);
+        waitFor(() -> !received.isEmpty());
+        Thread.sleep(200);
+
+        // Then
+        assertThat(received).hasSize(1);
+        assertThat(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections()).isZero();
+        subscriber.cancel();
+        assertThat(reactiveReadService.streamPlayers(PlayersSort.NAME).count().block()).isEqualTo(500);
+    }
+
+    @Test
+    void given_moreSlowStreamsThanConnections_when_streamingAnother_then_itCompletes() throws Exception {
+        // Given
+        playerRepository.saveAll(IntStream.range(0, 120)
+            .mapToObj(i -> new PlayerEntity("Player", String.format("Name%04d", i)))
+            .toList());
+        var subscribers = new ArrayList<BaseSubscriber<PlayerWithScoreTO>>();
+        var received = new CopyOnWriteArrayList<PlayerWithScoreTO>();
+        for (int i = 0; i < 3; i++) {
+            var subscriber = new BaseSubscriber<PlayerWithScoreTO>() {
+                @Override
+                protected void hookOnSubscribe(Subscription subscription) {
+                    request(1);
+                }
+
+                @Override
+                protected void hookOnNext(PlayerWithScoreTO player) {
+                    received.add(player);
+                }
+            };
+            reactiveReadService.streamPlayers(i % 2 == 0 ? PlayersSort.NAME : PlayersSort.SCORE_DESC)
+                .subscribe(subscriber);
+            subscribers.add(subscriber);
+        }
+        waitFor(() -> received.size() == 3);
+
+        try {
+            // When
+            var streamed = reactiveReadService.streamPlayers(PlayersSort.SCORE_DESC).collectList()
+                .block(Duration.ofSeconds(10));
+
+            // Then
+            assertThat(streamed).hasSize(120);
+            assertThat(streamed).extracting(PlayerWithScoreTO::id).doesNotHaveDuplicates();
+        } finally {
+            subscribers.forEach(BaseSubscriber::cancel);
+        }
+    }
+
+    private <T> List<T> parse(String body, Class<T> type) throws Exception {
+        if (body == null) {
+            return new ArrayList<>();
+        }
+        try (var lines = objectMapper.readerFor(type).<T>readValues(body)) {
+            return lines.readAll();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private UUID createPlayer(String firstName, String lastName) {
+        return restTemplate.postForEntity("/api/players", new UpsertPlayerRequest(firstName, lastName),
+            PlayerTO.class).getBody().id();
+    }
+
+    private GameTO createGame(UUID player1, UUID player2, UUID player3, UUID mainPlayer, int score) {
+        var response = restTemplate.postForEntity("/api/games",
+            new CreateGameRequest(player1, player2, player3, mainPlayer, 18, score, OffsetDateTime.now()),
+            GameTO.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody();
+    }
+}
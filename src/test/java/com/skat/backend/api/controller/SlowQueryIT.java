@@ -0,0 +1,103 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.dto.PlayerGamesResponseTO;
+import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.SlowQueriesTO;
+import com.skat.backend.application.dto.SlowQueryTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the slow query capture following ADR-001, ADR-008, and ADR-012. Every statement counts as slow
+ * and every slow SELECT is explained. The endpoint is enabled as documented, on a separate management port bound to
+ * localhost.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "management.server.port=0",
+    "management.server.address=127.0.0.1",
+    "management.endpoints.web.exposure.include=slowqueries",
+    "skat.slow-query.threshold=0ms",
+    "skat.slow-query.capacity=1000",
+    "skat.slow-query.explain-sample-rate=1"
+})
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+class SlowQueryIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate.delete(slowQueries());
+    }
+
+    @Test
+    void given_captureOfAllStatements_when_listingGamesOfPlayer_then_statementIsListedWithParametersAndPlan()
+        throws InterruptedException {
+        // Given
+        var player = restTemplate.postForEntity("/api/players", new UpsertPlayerRequest("Lena", "Langsam"),
+            PlayerTO.class).getBody();
+
+        // When
+        restTemplate.getForEntity("/api/players/" + player.id() + "/games?pageSize=7",
+            PlayerGamesResponseTO.class);
+
+        // Then
+        var response = restTemplate.getForEntity(slowQueries(), SlowQueriesTO.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().threshold_ms()).isZero();
+        assertThat(response.getBody().slowest())
+            .filteredOn(query -> query.sql().contains("FROM game_participant gp"))
+            .anySatisfy(query -> assertThat(query.parameters()).contains(player.id().toString(), "7"));
+
+        var explained = awaitExplained("FROM game_participant gp");
+        assertThat(explained.plan()).contains("game_participant").contains("Buffers").contains("Execution Time");
+    }
+
+    @Test
+    void given_capturedStatements_when_clearing_then_logIsEmpty() {
+        // Given
+        restTemplate.getForEntity("/api/players", String.class);
+
+        // When
+        restTemplate.delete(slowQueries());
+
+        // Then
+        var response = restTemplate.getForEntity(slowQueries(), SlowQueriesTO.class);
+        assertThat(response.getBody().slowest()).isEmpty();
+    }
+
+    private SlowQueryTO awaitExplained(String sqlPart) throws InterruptedException {
+        // Plans are captured in the background, one at a time
+        for (var attempt = 0; attempt < 100; attempt++) {
+            var explained = restTemplate.getForEntity(slowQueries(), SlowQueriesTO.class).getBody()
+                .explained().stream()
+                .filter(query -> query.sql().contains(sqlPart))
+                .findFirst();
+            if (explained.isPresent()) {
+                return explained.get();
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("No plan captured for " + sqlPart);
+    }
+
+    private String slowQueries() {
+        return "http://127.0.0.1:" + managementPort + "/actuator/slowqueries";
+    }
+}
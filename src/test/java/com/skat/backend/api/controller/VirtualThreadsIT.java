@@ -0,0 +1,102 @@
+package com.skat.backend.api.controller;
+
+import com.skat.backend.application.dto.ErrorResponseTO;
+import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the virtual thread mode following ADR-001, ADR-008, and ADR-012.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.threads.virtual.enabled=true",
+    "spring.datasource.hikari.maximum-pool-size=4",
+    "spring.datasource.hikari.connection-timeout=250"
+})
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+class VirtualThreadsIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private TaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void given_virtualThreadMode_when_started_then_requestsAndAsyncWorkRunOnVirtualThreads() throws Exception {
+        // When
+        var tomcat = ((TomcatWebServer) context.getWebServer()).getTomcat();
+        var asyncTaskThread = new CompletableFuture<Thread>();
+        applicationTaskExecutor.execute(() -> asyncTaskThread.complete(Thread.currentThread()));
+
+        // Then
+        assertThat(tomcat.getConnector().getProtocolHandler().getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+        assertThat(asyncTaskThread.get(5, TimeUnit.SECONDS).isVirtual()).isTrue();
+    }
+
+    @Test
+    void given_virtualThreadMode_when_creatingAndListingPlayers_then_requestsSucceed() {
+        // Given
+        var created = restTemplate.postForEntity("/api/players", new UpsertPlayerRequest("Vera", "Virtuell"),
+            PlayerTO.class);
+
+        // When
+        var response = restTemplate.getForEntity("/api/players?sort=NAME", PlayerListResponseTO.class);
+
+        // Then
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().items()).extracting(PlayerWithScoreTO::last_name).contains("Virtuell");
+    }
+
+    @Test
+    void given_exhaustedConnectionPool_when_listingPlayers_then_returns503WithRetryAfter() throws Exception {
+        // Given
+        var held = new ArrayList<Connection>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                held.add(dataSource.getConnection());
+            }
+
+            // When
+            var response = restTemplate.getForEntity("/api/players?sort=NAME", ErrorResponseTO.class);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+            assertThat(response.getBody().error()).isEqualTo("service_unavailable");
+        } finally {
+            for (var connection : held) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.skat.backend.application;
+
+import com.skat.backend.application.events.PlayerChangedEvent;
+import com.skat.backend.application.events.PlayerDeletedEvent;
+import com.skat.backend.application.events.PlayerScoreChangedEvent;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pure unit test for DataVersion following ADR-002. Events are delivered by calling the listener methods directly.
+ */
+class DataVersionTest {
+
+	private final DataVersion dataVersion = new DataVersion();
+
+	@Test
+	void given_playerAndScoreWrites_when_eventsArrive_then_versionAndEtagAdvance() {
+		// Given
+		var playerId = UUID.randomUUID();
+		var initialEtag = dataVersion.etag();
+
+		// When
+		dataVersion.onPlayerChanged(new PlayerChangedEvent(playerId, "Anna", "Schmidt"));
+		dataVersion.onPlayerScoreChanged(
+			new PlayerScoreChangedEvent(playerId, "Anna", "Schmidt", 36, 1, OffsetDateTime.now()));
+		dataVersion.onPlayerDeleted(new PlayerDeletedEvent(playerId));
+
+		// Then
+		assertThat(dataVersion.current()).isEqualTo(3);
+		assertThat(dataVersion.etag()).isNotEqualTo(initialEtag).startsWith("\"").endsWith("-3\"");
+	}
+
+	@Test
+	void given_twoInstances_when_atTheSameVersion_then_etagsDiffer() {
+		// When & Then
+		assertThat(new DataVersion().etag()).isNotEqualTo(dataVersion.etag());
+	}
+}
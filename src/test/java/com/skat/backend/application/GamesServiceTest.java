@@ -0,0 +1,249 @@
+package com.skat.backend.application;
+
+import com.skat.backend.api.exception.NotFoundException;
+import com.skat.backend.application.dto.CreateGameRequest;
+import com.skat.backend.application.dto.GameTO;
+import com.skat.backend.application.dto.PlayerGameTO;
+import com.skat.backend.application.dto.PlayerGamesCursor;
+import com.skat.backend.application.dto.PlayerGamesResponseTO;
+import com.skat.backend.application.events.PlayerScoreChangedEvent;
+import com.skat.backend.domain.entities.GameEntity;
+import com.skat.backend.domain.entities.PlayerEntity;
+import com.skat.backend.domain.entities.PlayerScoreEntity;
+import com.skat.backend.domain.projections.PlayerGameView;
+import com.skat.backend.domain.repositories.GameRepository;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pure unit test for GamesServiceImpl following ADR-002 (Unit Testing Strategy with Maven Surefire).
+ */
+class GamesServiceTest {
+
+	@Mock
+	private GameRepository gameRepository;
+
+	@Mock
+	private PlayerRepository playerRepository;
+
+	@Mock
+	private PlayerScoreRepository playerScoreRepository;
+
+	@Mock
+	private ScoreSequenceAllocator scoreSequenceAllocator;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private GamesServiceImpl gamesService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when(playerRepository.getReferenceById(any(UUID.class))).thenAnswer(invocation -> {
+			PlayerEntity player = new PlayerEntity();
+			player.setId(invocation.getArgument(0));
+			return player;
+		});
+		when(gameRepository.save(any(GameEntity.class))).thenAnswer(invocation -> {
+			GameEntity game = invocation.getArgument(0);
+			game.setId(UUID.randomUUID());
+			return game;
+		});
+	}
+
+	@Test
+	void given_validGame_when_createGame_then_scoresContinueEachPlayersSeries() {
+		// Given
+		ScoreSlot anna = slot("Anna", "Schmidt", 100, 5);
+		ScoreSlot max = slot("Max", "Mueller", 0, 1);
+		ScoreSlot lisa = slot("Lisa", "Bauer", -20, 3);
+		when(scoreSequenceAllocator.allocate(any())).thenReturn(slots(anna, max, lisa));
+		CreateGameRequest request = new CreateGameRequest(anna.playerId(), max.playerId(), lisa.playerId(),
+			anna.playerId(), 18, 36, OffsetDateTime.now());
+
+		// When
+		GameTO result = gamesService.createGame(request);
+
+		// Then
+		assertThat(result.id()).isNotNull();
+		assertThat(result.main_player_id()).isEqualTo(anna.playerId());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<PlayerScoreEntity>> scoresCaptor = ArgumentCaptor.forClass(List.class);
+		verify(playerScoreRepository).saveAll(scoresCaptor.capture());
+		assertThat(scoresCaptor.getValue()).extracting(PlayerScoreEntity::getTotalPoints).containsExactly(136, 0, -20);
+		assertThat(scoresCaptor.getValue()).extracting(PlayerScoreEntity::getSequenceIndex).containsExactly(5, 1, 3);
+
+		ArgumentCaptor<PlayerScoreChangedEvent> eventCaptor = ArgumentCaptor.forClass(PlayerScoreChangedEvent.class);
+		verify(eventPublisher, times(3)).publishEvent(eventCaptor.capture());
+		assertThat(eventCaptor.getAllValues().get(0).firstName()).isEqualTo("Anna");
+		assertThat(eventCaptor.getAllValues().get(0).totalPoints()).isEqualTo(136);
+	}
+
+	@Test
+	void given_repeatedPlayer_when_createGame_then_throwsIllegalArgumentException() {
+		// Given
+		UUID playerId = UUID.randomUUID();
+		CreateGameRequest request = new CreateGameRequest(playerId, playerId, UUID.randomUUID(), playerId, 18, 36,
+			OffsetDateTime.now());
+
+		// When & Then
+		assertThatThrownBy(() -> gamesService.createGame(request))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("player1_id, player2_id and player3_id must be distinct");
+		verifyNoInteractions(gameRepository, playerScoreRepository);
+	}
+
+	@Test
+	void given_mainPlayerNotInGame_when_createGame_then_throwsIllegalArgumentException() {
+		// Given
+		CreateGameRequest request = new CreateGameRequest(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+			UUID.randomUUID(), 18, 36, OffsetDateTime.now());
+
+		// When & Then
+		assertThatThrownBy(() -> gamesService.createGame(request))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("main_player_id must be one of the game's players");
+	}
+
+	@Test
+	void given_unknownPlayer_when_createGame_then_throwsNotFoundExceptionNamingTheField() {
+		// Given
+		ScoreSlot anna = slot("Anna", "Schmidt", 0, 1);
+		ScoreSlot max = slot("Max", "Mueller", 0, 1);
+		when(scoreSequenceAllocator.allocate(any())).thenReturn(slots(anna, max));
+		CreateGameRequest request = new CreateGameRequest(anna.playerId(), max.playerId(), UUID.randomUUID(),
+			anna.playerId(), 18, 36, OffsetDateTime.now());
+
+		// When & Then
+		assertThatThrownBy(() -> gamesService.createGame(request))
+			.isInstanceOf(NotFoundException.class)
+			.extracting("field").isEqualTo("player3_id");
+		verifyNoInteractions(gameRepository, playerScoreRepository, eventPublisher);
+	}
+
+	@Test
+	void given_unknownGame_when_getGame_then_throwsNotFoundException() {
+		// Given
+		UUID gameId = UUID.randomUUID();
+		when(gameRepository.findById(gameId)).thenReturn(Optional.empty());
+
+		// When & Then
+		assertThatThrownBy(() -> gamesService.getGame(gameId))
+			.isInstanceOf(NotFoundException.class)
+			.hasMessage("Game not found");
+	}
+
+	@Test
+	void given_fullPage_when_listPlayerGames_then_nextCursorContinuesBeforeTheLastGame() {
+		// Given
+		UUID playerId = UUID.randomUUID();
+		Instant newest = Instant.parse("2025-10-23T20:15:00Z");
+		PlayerGameView first = gameView(UUID.randomUUID(), newest, 2, 36);
+		PlayerGameView second = gameView(UUID.randomUUID(), newest.minusSeconds(60), 1, 0);
+		when(playerRepository.existsById(playerId)).thenReturn(true);
+		when(gameRepository.findLatestByPlayerId(playerId, 2)).thenReturn(List.of(first, second));
+
+		// When
+		PlayerGamesResponseTO page = gamesService.listPlayerGames(playerId, 2, null);
+
+		// Then
+		assertThat(page.items()).extracting(item -> item.game().id()).containsExactly(first.getId(), second.getId());
+		assertThat(page.items()).extracting(PlayerGameTO::total_points).containsExactly(36, 0);
+		assertThat(page.next_cursor()).isNotNull();
+		PlayerGamesCursor cursor = PlayerGamesCursor.decode(page.next_cursor());
+		assertThat(cursor.playedAt()).isEqualTo(second.getPlayedAt());
+		assertThat(cursor.gameId()).isEqualTo(second.getId());
+	}
+
+	@Test
+	void given_cursor_when_listPlayerGames_then_readsGamesBeforeTheCursorAndEndsOnPartialPage() {
+		// Given
+		UUID playerId = UUID.randomUUID();
+		UUID lastGameId = UUID.randomUUID();
+		Instant lastPlayedAt = Instant.parse("2025-10-23T20:15:00.123456Z");
+		String cursor = new PlayerGamesCursor(lastPlayedAt, lastGameId).encode();
+		PlayerGameView older = gameView(UUID.randomUUID(), lastPlayedAt.minusSeconds(60), 1, 0);
+		when(playerRepository.existsById(playerId)).thenReturn(true);
+		when(gameRepository.findLatestByPlayerIdBefore(eq(playerId), any(OffsetDateTime.class), eq(lastGameId), eq(2)))
+			.thenReturn(List.of(older));
+
+		// When
+		PlayerGamesResponseTO page = gamesService.listPlayerGames(playerId, 2, cursor);
+
+		// Then
+		ArgumentCaptor<OffsetDateTime> playedAtCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+		verify(gameRepository).findLatestByPlayerIdBefore(eq(playerId), playedAtCaptor.capture(), eq(lastGameId), eq(2));
+		assertThat(playedAtCaptor.getValue().toInstant()).isEqualTo(lastPlayedAt);
+		assertThat(page.items()).hasSize(1);
+		assertThat(page.next_cursor()).isNull();
+	}
+
+	@Test
+	void given_unknownPlayer_when_listPlayerGames_then_throwsNotFoundException() {
+		// Given
+		UUID playerId = UUID.randomUUID();
+		when(playerRepository.existsById(playerId)).thenReturn(false);
+
+		// When & Then
+		assertThatThrownBy(() -> gamesService.listPlayerGames(playerId, 50, null))
+			.isInstanceOf(NotFoundException.class)
+			.hasMessage("Player not found");
+	}
+
+	@Test
+	void given_malformedCursor_when_listPlayerGames_then_throwsIllegalArgumentException() {
+		// When & Then
+		assertThatThrownBy(() -> gamesService.listPlayerGames(UUID.randomUUID(), 50, "not-a-cursor"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Invalid cursor");
+		verifyNoInteractions(gameRepository);
+	}
+
+	private static PlayerGameView gameView(UUID gameId, Instant playedAt, int sequenceIndex, int totalPoints) {
+		PlayerGameView view = mock(PlayerGameView.class);
+		when(view.getId()).thenReturn(gameId);
+		when(view.getPlayedAt()).thenReturn(playedAt);
+		when(view.getBidValue()).thenReturn(18);
+		when(view.getScore()).thenReturn(36);
+		when(view.getSequenceIndex()).thenReturn(sequenceIndex);
+		when(view.getTotalPoints()).thenReturn(totalPoints);
+		return view;
+	}
+
+	private static ScoreSlot slot(String firstName, String lastName, int totalPoints, int nextSequenceIndex) {
+		return new ScoreSlot(UUID.randomUUID(), firstName, lastName, totalPoints, nextSequenceIndex);
+	}
+
+	private static Map<UUID, ScoreSlot> slots(ScoreSlot... slots) {
+		return Arrays.stream(slots).collect(Collectors.toMap(ScoreSlot::playerId, Function.identity()));
+	}
+}
@@ -0,0 +1,90 @@
+package com.skat.backend.application;
+
+import com.skat.backend.application.dto.PlayerScoreTO;
+import com.skat.backend.domain.projections.PlayerScoreView;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pure unit test for PlayerScoresServiceImpl following ADR-002 (Unit Testing Strategy with Maven Surefire).
+ */
+class PlayerScoresServiceTest {
+
+	@Mock
+	private PlayerScoreRepository playerScoreRepository;
+
+	@InjectMocks
+	private PlayerScoresServiceImpl playerScoresService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	@Test
+	void given_scoresAfterFrom_when_forEachScore_then_eachScoreIsPassedOnAndStreamIsClosed() {
+		// Given
+		OffsetDateTime from = OffsetDateTime.now().minusDays(1);
+		PlayerScoreView first = score(1, 36);
+		PlayerScoreView second = score(2, 12);
+		AtomicBoolean closed = new AtomicBoolean();
+		when(playerScoreRepository.streamAllCreatedFrom(from))
+			.thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+		List<PlayerScoreTO> received = new ArrayList<>();
+
+		// When
+		playerScoresService.forEachScore(from, null, received::add);
+
+		// Then
+		assertThat(received).extracting(PlayerScoreTO::sequence_index).containsExactly(1, 2);
+		assertThat(received).extracting(PlayerScoreTO::total_points).containsExactly(36, 12);
+		assertThat(received.get(0).id()).isEqualTo(first.getId());
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void given_playerFilter_when_forEachScore_then_readsScoresOfThatPlayerOnly() {
+		// Given
+		OffsetDateTime from = OffsetDateTime.now().minusDays(1);
+		UUID playerId = UUID.randomUUID();
+		PlayerScoreView score = score(1, 0);
+		when(playerScoreRepository.streamByPlayerIdCreatedFrom(playerId, from)).thenReturn(Stream.of(score));
+		List<PlayerScoreTO> received = new ArrayList<>();
+
+		// When
+		playerScoresService.forEachScore(from, playerId, received::add);
+
+		// Then
+		assertThat(received).hasSize(1);
+		verify(playerScoreRepository, never()).streamAllCreatedFrom(any());
+	}
+
+	private static PlayerScoreView score(int sequenceIndex, int totalPoints) {
+		PlayerScoreView row = mock(PlayerScoreView.class);
+		when(row.getId()).thenReturn(UUID.randomUUID());
+		when(row.getPlayerId()).thenReturn(UUID.randomUUID());
+		when(row.getGameId()).thenReturn(UUID.randomUUID());
+		when(row.getSequenceIndex()).thenReturn(sequenceIndex);
+		when(row.getTotalPoints()).thenReturn(totalPoints);
+		when(row.getCreatedAt()).thenReturn(Instant.now());
+		return row;
+	}
+}
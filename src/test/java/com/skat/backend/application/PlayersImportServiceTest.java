@@ -0,0 +1,160 @@
+package com.skat.backend.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skat.backend.api.exception.ConflictException;
+import com.skat.backend.application.dto.BulkPlayerImportResponseTO;
+import com.skat.backend.application.dto.BulkPlayerResultTO;
+import com.skat.backend.application.dto.BulkPlayerStatus;
+import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pure unit test for PlayersImportService. Parsing and validation use a real ObjectMapper and Validator, the writes
+ * are mocked.
+ */
+class PlayersImportServiceTest {
+
+	@Mock
+	private PlayersService playersService;
+
+	@InjectMocks
+	private PlayersImportService playersImportService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(playersImportService, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(playersImportService, "validator",
+			Validation.buildDefaultValidatorFactory().getValidator());
+		when(playersService.createPlayers(anyList())).thenAnswer(invocation -> {
+			List<UpsertPlayerRequest> requests = invocation.getArgument(0);
+			return requests.stream()
+				.map(request -> new BulkPlayerResultTO(requests.indexOf(request), BulkPlayerStatus.CREATED,
+					UUID.randomUUID(), request.first_name(), request.last_name(), null))
+				.toList();
+		});
+	}
+
+	@Test
+	void given_jsonArrayWithInvalidRow_when_importPlayers_then_validRowsAreCreatedAndResultsKeepInputOrder()
+		throws IOException {
+		// Given
+		var body = """
+			[
+			  {"first_name": "Anna", "last_name": "Schmidt"},
+			  {"first_name": "", "last_name": "Mueller"},
+			  {"first_name": "Lisa", "last_name": "Bauer"}
+			]
+			""";
+
+		// When
+		BulkPlayerImportResponseTO response = playersImportService.importPlayers(stream(body));
+
+		// Then
+		assertThat(response.created()).isEqualTo(2);
+		assertThat(response.invalid()).isEqualTo(1);
+		assertThat(response.results()).extracting(BulkPlayerResultTO::index).containsExactly(0, 1, 2);
+		assertThat(response.results()).extracting(BulkPlayerResultTO::status).containsExactly(
+			BulkPlayerStatus.CREATED, BulkPlayerStatus.INVALID, BulkPlayerStatus.CREATED);
+		assertThat(response.results().get(1).message()).isEqualTo("first_name is required");
+	}
+
+	@Test
+	void given_ndjsonLargerThanOneChunk_when_importPlayers_then_rowsAreWrittenInChunks() throws IOException {
+		// Given
+		var body = new StringBuilder();
+		for (int i = 0; i < PlayersImportService.CHUNK_SIZE + 1; i++) {
+			body.append("{\"first_name\": \"Player\", \"last_name\": \"").append(i).append("\"}\n");
+		}
+
+		// When
+		BulkPlayerImportResponseTO response = playersImportService.importPlayers(stream(body.toString()));
+
+		// Then
+		assertThat(response.created()).isEqualTo(PlayersImportService.CHUNK_SIZE + 1);
+		assertThat(response.results().get(PlayersImportService.CHUNK_SIZE).index())
+			.isEqualTo(PlayersImportService.CHUNK_SIZE);
+		verify(playersService, times(2)).createPlayers(anyList());
+	}
+
+	@Test
+	void given_concurrentlyTakenName_when_importPlayers_then_chunkIsRetriedRowByRow() throws IOException {
+		// Given
+		var body = """
+			{"first_name": "Anna", "last_name": "Schmidt"}
+			{"first_name": "Max", "last_name": "Mueller"}
+			""";
+		when(playersService.createPlayers(anyList()))
+			.thenThrow(new DataIntegrityViolationException("duplicate key"));
+		when(playersService.createPlayer(any(UpsertPlayerRequest.class)))
+			.thenReturn(new PlayerTO(UUID.randomUUID(), "Anna", "Schmidt"))
+			.thenThrow(new ConflictException("Player with first_name+last_name already exists"));
+
+		// When
+		BulkPlayerImportResponseTO response = playersImportService.importPlayers(stream(body));
+
+		// Then
+		assertThat(response.created()).isEqualTo(1);
+		assertThat(response.conflicts()).isEqualTo(1);
+		assertThat(response.results()).extracting(BulkPlayerResultTO::status).containsExactly(
+			BulkPlayerStatus.CREATED, BulkPlayerStatus.CONFLICT);
+		assertThat(response.results().get(1).first_name()).isEqualTo("Max");
+	}
+
+	@Test
+	void given_malformedRowAfterValidRows_when_importPlayers_then_earlierRowsAreReportedAndImportStops()
+		throws IOException {
+		// Given
+		var body = "[{\"first_name\": \"Anna\", \"last_name\": \"Schmidt\"}, {\"first_name\": ], "
+			+ "{\"first_name\": \"Max\", \"last_name\": \"Mueller\"}]";
+
+		// When
+		BulkPlayerImportResponseTO response = playersImportService.importPlayers(stream(body));
+
+		// Then
+		assertThat(response.created()).isEqualTo(1);
+		assertThat(response.invalid()).isEqualTo(1);
+		assertThat(response.results()).extracting(BulkPlayerResultTO::index, BulkPlayerResultTO::status)
+			.containsExactly(tuple(0, BulkPlayerStatus.CREATED), tuple(1, BulkPlayerStatus.INVALID));
+		assertThat(response.results().get(1).message()).isEqualTo("Malformed player, the rows after it were not read");
+		assertThat(response.results().get(0).first_name()).isEqualTo("Anna");
+	}
+
+	@Test
+	void given_malformedFirstRow_when_importPlayers_then_throwsIllegalArgumentException() {
+		// Given
+		var body = "[{\"first_name\": ]";
+
+		// When & Then
+		assertThatThrownBy(() -> playersImportService.importPlayers(stream(body)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Malformed player at row 0");
+	}
+
+	private static InputStream stream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
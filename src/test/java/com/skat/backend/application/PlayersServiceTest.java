@@ -2,33 +2,51 @@ package com.skat.backend.application;
 
 import com.skat.backend.api.exception.ConflictException;
 import com.skat.backend.api.exception.NotFoundException;
+import com.skat.backend.application.dto.BulkPlayerResultTO;
+import com.skat.backend.application.dto.BulkPlayerStatus;
+import com.skat.backend.application.dto.DeletePlayersResponseTO;
 import com.skat.backend.application.dto.PlayerListResponseTO;
+import com.skat.backend.application.dto.PlayerRankTO;
 import com.skat.backend.application.dto.PlayerTO;
+import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.PlayersCursor;
 import com.skat.backend.application.dto.PlayersQuery;
 import com.skat.backend.application.dto.PlayersSort;
 import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.events.PlayerChangedEvent;
+import com.skat.backend.application.events.PlayerDeletedEvent;
+import com.skat.backend.application.leaderboard.LeaderboardEntry;
+import com.skat.backend.application.leaderboard.LeaderboardPosition;
+import com.skat.backend.application.leaderboard.LeaderboardService;
 import com.skat.backend.domain.entities.PlayerEntity;
-import com.skat.backend.domain.entities.PlayerScoreEntity;
+import com.skat.backend.domain.projections.PlayerNameView;
+import com.skat.backend.domain.projections.PlayerWithScoreView;
 import com.skat.backend.domain.repositories.GameRepository;
 import com.skat.backend.domain.repositories.PlayerRepository;
 import com.skat.backend.domain.repositories.PlayerScoreRepository;
-import java.time.OffsetDateTime;
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -46,6 +64,12 @@ class PlayersServiceTest {
 	@Mock
 	private PlayerScoreRepository playerScoreRepository;
 
+	@Mock
+	private LeaderboardService leaderboardService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private PlayersServiceImpl playersService;
 
@@ -62,9 +86,7 @@ class PlayersServiceTest {
 		UUID playerId = UUID.randomUUID();
 		savedPlayer.setId(playerId);
 
-		when(playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCase("Anna", "Schmidt"))
-			.thenReturn(false);
-		when(playerRepository.save(any(PlayerEntity.class))).thenReturn(savedPlayer);
+		when(playerRepository.saveAndFlush(any(PlayerEntity.class))).thenReturn(savedPlayer);
 
 		// When
 		PlayerTO result = playersService.createPlayer(request);
@@ -75,24 +97,94 @@ class PlayersServiceTest {
 		assertThat(result.first_name()).isEqualTo("Anna");
 		assertThat(result.last_name()).isEqualTo("Schmidt");
 
-		verify(playerRepository).existsByFirstNameIgnoreCaseAndLastNameIgnoreCase("Anna", "Schmidt");
-		verify(playerRepository).save(any(PlayerEntity.class));
+		verify(playerRepository).saveAndFlush(any(PlayerEntity.class));
+		verify(eventPublisher).publishEvent(new PlayerChangedEvent(playerId, "Anna", "Schmidt"));
 	}
 
 	@Test
 	void given_duplicateName_when_createPlayer_then_throwsConflictException() {
 		// Given
 		UpsertPlayerRequest request = new UpsertPlayerRequest("Anna", "Schmidt");
-		when(playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCase("Anna", "Schmidt"))
-			.thenReturn(true);
+		when(playerRepository.saveAndFlush(any(PlayerEntity.class)))
+			.thenThrow(uniqueViolation("player_first_last_name_uq"));
 
 		// When & Then
 		assertThatThrownBy(() -> playersService.createPlayer(request))
 			.isInstanceOf(ConflictException.class)
 			.hasMessageContaining("Player with first_name+last_name already exists");
 
-		verify(playerRepository).existsByFirstNameIgnoreCaseAndLastNameIgnoreCase("Anna", "Schmidt");
-		verify(playerRepository, never()).save(any());
+		verify(playerRepository).saveAndFlush(any(PlayerEntity.class));
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	void given_otherIntegrityViolation_when_createPlayer_then_exceptionIsPropagated() {
+		// Given
+		UpsertPlayerRequest request = new UpsertPlayerRequest("Anna", "Schmidt");
+		DataIntegrityViolationException violation = uniqueViolation("some_other_constraint");
+		when(playerRepository.saveAndFlush(any(PlayerEntity.class))).thenThrow(violation);
+
+		// When & Then
+		assertThatThrownBy(() -> playersService.createPlayer(request)).isSameAs(violation);
+	}
+
+	@Test
+	void given_takenAndRepeatedNames_when_createPlayers_then_onlyNewNamesAreSavedInOneBatch() {
+		// Given
+		List<UpsertPlayerRequest> requests = List.of(
+			new UpsertPlayerRequest("Anna", "Schmidt"),
+			new UpsertPlayerRequest("max", "MUELLER"),
+			new UpsertPlayerRequest(" Lisa ", "Bauer"),
+			new UpsertPlayerRequest("LISA", "bauer"));
+		List<PlayerNameView> nameKeys = List.of(
+			nameKey("anna", "schmidt", false),
+			nameKey("max", "mueller", true),
+			nameKey("lisa", "bauer", false),
+			nameKey("lisa", "bauer", false));
+		when(playerRepository.findNameKeys(any(), any())).thenReturn(nameKeys);
+		when(playerRepository.saveAll(any())).thenAnswer(invocation -> {
+			List<PlayerEntity> players = invocation.getArgument(0);
+			players.forEach(player -> player.setId(UUID.randomUUID()));
+			return players;
+		});
+
+		// When
+		List<BulkPlayerResultTO> results = playersService.createPlayers(requests);
+
+		// Then
+		assertThat(results).extracting(BulkPlayerResultTO::index).containsExactly(0, 1, 2, 3);
+		assertThat(results).extracting(BulkPlayerResultTO::status).containsExactly(
+			BulkPlayerStatus.CREATED, BulkPlayerStatus.CONFLICT, BulkPlayerStatus.CREATED, BulkPlayerStatus.CONFLICT);
+		assertThat(results.get(0).id()).isNotNull();
+		assertThat(results.get(1).id()).isNull();
+		assertThat(results.get(2).first_name()).isEqualTo("Lisa");
+
+		ArgumentCaptor<List<PlayerEntity>> playersCaptor = ArgumentCaptor.forClass(List.class);
+		verify(playerRepository).saveAll(playersCaptor.capture());
+		assertThat(playersCaptor.getValue()).extracting(PlayerEntity::getFirstName).containsExactly("Anna", "Lisa");
+		verify(playerRepository).flush();
+		verify(eventPublisher, times(2)).publishEvent(any(PlayerChangedEvent.class));
+	}
+
+	@Test
+	void given_namesFoldedEquallyByDatabase_when_createPlayers_then_repeatedNameIsConflict() {
+		// Given: Java lower-cases "ΟΔΟΣ" to "οδος" (final sigma), a libc collation to "οδοσ"
+		List<UpsertPlayerRequest> requests = List.of(
+			new UpsertPlayerRequest("Nikos", "ΟΔΟΣ"),
+			new UpsertPlayerRequest("Nikos", "οδοσ"));
+		List<PlayerNameView> nameKeys = List.of(
+			nameKey("nikos", "οδοσ", false),
+			nameKey("nikos", "οδοσ", false));
+		when(playerRepository.findNameKeys(any(), any())).thenReturn(nameKeys);
+		when(playerRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// When
+		List<BulkPlayerResultTO> results = playersService.createPlayers(requests);
+
+		// Then
+		assertThat(results).extracting(BulkPlayerResultTO::status).containsExactly(
+			BulkPlayerStatus.CREATED, BulkPlayerStatus.CONFLICT);
+		verify(playerRepository).findNameKeys(new String[] {"Nikos", "Nikos"}, new String[] {"ΟΔΟΣ", "οδοσ"});
 	}
 
 	@Test
@@ -103,16 +195,14 @@ class PlayersServiceTest {
 		UUID playerId = UUID.randomUUID();
 		savedPlayer.setId(playerId);
 
-		when(playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCase("Anna", "Schmidt"))
-			.thenReturn(false);
-		when(playerRepository.save(any(PlayerEntity.class))).thenReturn(savedPlayer);
+		when(playerRepository.saveAndFlush(any(PlayerEntity.class))).thenReturn(savedPlayer);
 
 		// When
 		playersService.createPlayer(request);
 
 		// Then
 		ArgumentCaptor<PlayerEntity> playerCaptor = ArgumentCaptor.forClass(PlayerEntity.class);
-		verify(playerRepository).save(playerCaptor.capture());
+		verify(playerRepository).saveAndFlush(playerCaptor.capture());
 		PlayerEntity capturedPlayer = playerCaptor.getValue();
 		assertThat(capturedPlayer.getFirstName()).isEqualTo("Anna");
 		assertThat(capturedPlayer.getLastName()).isEqualTo("Schmidt");
@@ -127,9 +217,7 @@ class PlayersServiceTest {
 		existingPlayer.setId(playerId);
 
 		when(playerRepository.findById(playerId)).thenReturn(Optional.of(existingPlayer));
-		when(playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndIdNot("Anna", "Mueller", playerId))
-			.thenReturn(false);
-		when(playerRepository.save(any(PlayerEntity.class))).thenReturn(existingPlayer);
+		when(playerRepository.saveAndFlush(any(PlayerEntity.class))).thenReturn(existingPlayer);
 
 		// When
 		PlayerTO result = playersService.updatePlayer(playerId, request);
@@ -141,8 +229,7 @@ class PlayersServiceTest {
 		assertThat(result.last_name()).isEqualTo("Mueller");
 
 		verify(playerRepository).findById(playerId);
-		verify(playerRepository).existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndIdNot("Anna", "Mueller", playerId);
-		verify(playerRepository).save(existingPlayer);
+		verify(playerRepository).saveAndFlush(existingPlayer);
 		assertThat(existingPlayer.getLastName()).isEqualTo("Mueller");
 	}
 
@@ -159,7 +246,7 @@ class PlayersServiceTest {
 			.hasMessageContaining("Player not found");
 
 		verify(playerRepository).findById(playerId);
-		verify(playerRepository, never()).save(any());
+		verify(playerRepository, never()).saveAndFlush(any());
 	}
 
 	@Test
@@ -171,8 +258,7 @@ class PlayersServiceTest {
 		existingPlayer.setId(playerId);
 
 		when(playerRepository.findById(playerId)).thenReturn(Optional.of(existingPlayer));
-		when(playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndIdNot("Anna", "Mueller", playerId))
-			.thenReturn(true);
+		when(playerRepository.saveAndFlush(existingPlayer)).thenThrow(uniqueViolation("player_first_last_name_uq"));
 
 		// When & Then
 		assertThatThrownBy(() -> playersService.updatePlayer(playerId, request))
@@ -180,8 +266,8 @@ class PlayersServiceTest {
 			.hasMessageContaining("Player with first_name+last_name already exists");
 
 		verify(playerRepository).findById(playerId);
-		verify(playerRepository).existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndIdNot("Anna", "Mueller", playerId);
-		verify(playerRepository, never()).save(any());
+		verify(playerRepository).saveAndFlush(existingPlayer);
+		verifyNoInteractions(eventPublisher);
 	}
 
 	@Test
@@ -203,7 +289,7 @@ class PlayersServiceTest {
 		verify(gameRepository).existsByPlayerId(playerId);
 		verify(playerScoreRepository).existsByPlayerId(playerId);
 		verify(playerRepository).delete(player);
-		verify(gameRepository, never()).nullifyPlayer1References(any());
+		verify(gameRepository, never()).nullifyPlayerReferences(any());
 	}
 
 	@Test
@@ -262,12 +348,66 @@ class PlayersServiceTest {
 
 		// Then
 		verify(playerRepository).findById(playerId);
-		verify(gameRepository).nullifyPlayer1References(playerId);
-		verify(gameRepository).nullifyPlayer2References(playerId);
-		verify(gameRepository).nullifyPlayer3References(playerId);
-		verify(gameRepository).nullifyMainPlayerReferences(playerId);
-		verify(playerScoreRepository).nullifyPlayerReferences(playerId);
+		verify(gameRepository).nullifyPlayerReferences(new UUID[] { playerId });
+		verify(playerScoreRepository).nullifyPlayerReferences(new UUID[] { playerId });
 		verify(playerRepository).delete(player);
+		verify(eventPublisher).publishEvent(new PlayerDeletedEvent(playerId));
+	}
+
+	@Test
+	void given_existingAndUnknownIds_when_forceDeletePlayers_then_existingAreDeletedWithSetBasedStatements() {
+		// Given
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		UUID unknown = UUID.randomUUID();
+		when(playerRepository.findExistingIds(any())).thenReturn(List.of(first, second));
+		when(playerRepository.deleteAllByIds(any())).thenReturn(2);
+
+		// When
+		DeletePlayersResponseTO result = playersService.deletePlayers(List.of(first, unknown, second, first), true);
+
+		// Then
+		assertThat(result.deleted()).isEqualTo(2);
+		assertThat(result.not_found()).containsExactly(unknown);
+		ArgumentCaptor<UUID[]> idsCaptor = ArgumentCaptor.forClass(UUID[].class);
+		verify(gameRepository).nullifyPlayerReferences(idsCaptor.capture());
+		assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(first, second);
+		verify(playerScoreRepository).nullifyPlayerReferences(any());
+		verify(playerRepository).deleteAllByIds(any());
+		verify(eventPublisher).publishEvent(new PlayerDeletedEvent(first));
+		verify(eventPublisher).publishEvent(new PlayerDeletedEvent(second));
+	}
+
+	@Test
+	void given_referencedPlayer_when_deletePlayersWithoutForce_then_throwsConflictExceptionAndDeletesNothing() {
+		// Given
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		when(playerRepository.findExistingIds(any())).thenReturn(List.of(first, second));
+		when(gameRepository.existsByPlayerIdIn(any())).thenReturn(false);
+		when(playerScoreRepository.existsByPlayerIdIn(any())).thenReturn(true);
+
+		// When & Then
+		assertThatThrownBy(() -> playersService.deletePlayers(List.of(first, second), false))
+			.isInstanceOf(ConflictException.class)
+			.hasMessage("At least one player is referenced in games or scores");
+		verify(playerRepository, never()).deleteAllByIds(any());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	void given_onlyUnknownIds_when_deletePlayers_then_nothingIsDeleted() {
+		// Given
+		UUID unknown = UUID.randomUUID();
+		when(playerRepository.findExistingIds(any())).thenReturn(List.of());
+
+		// When
+		DeletePlayersResponseTO result = playersService.deletePlayers(List.of(unknown), false);
+
+		// Then
+		assertThat(result.deleted()).isZero();
+		assertThat(result.not_found()).containsExactly(unknown);
+		verify(playerRepository, never()).deleteAllByIds(any());
 	}
 
 	@Test
@@ -288,21 +428,11 @@ class PlayersServiceTest {
 	@Test
 	void given_validQuery_when_listPlayers_then_returnsPlayerListResponse() {
 		// Given
-		PlayersQuery query = new PlayersQuery(0, 50, PlayersSort.NAME);
-
-		UUID playerId = UUID.randomUUID();
-		PlayerEntity player = new PlayerEntity("Anna", "Schmidt");
-		player.setId(playerId);
-		List<PlayerEntity> players = List.of(player);
+		PlayersQuery query = new PlayersQuery(0, 50, PlayersSort.NAME, null);
 
-		PlayerScoreEntity score = new PlayerScoreEntity();
-		score.setPlayer(player);
-		score.setTotalPoints(100);
-		score.setSequenceIndex(5);
-		score.setCreatedAt(OffsetDateTime.now());
+		PlayerWithScoreView row = playerWithScore("Anna", "Schmidt", 100, 5);
 
-		when(playerRepository.findAllOrderedByName(any())).thenReturn(players);
-		when(playerScoreRepository.findLatestScoresForPlayers(anyList())).thenReturn(List.of(score));
+		when(playerRepository.findAllOrderedByName(0, 50)).thenReturn(List.of(row));
 		when(playerRepository.count()).thenReturn(1L);
 
 		// When
@@ -319,9 +449,190 @@ class PlayersServiceTest {
 		assertThat(result.paging().pageSize()).isEqualTo(50);
 		assertThat(result.paging().total()).isEqualTo(1L);
 		assertThat(result.sort()).isEqualTo(PlayersSort.NAME);
+		assertThat(result.next_cursor()).isNull();
 
-		verify(playerRepository).findAllOrderedByName(any());
-		verify(playerScoreRepository).findLatestScoresForPlayers(anyList());
+		verify(playerRepository).findAllOrderedByName(0, 50);
 		verify(playerRepository).count();
+		verifyNoInteractions(playerScoreRepository);
+	}
+
+	@Test
+	void given_scoreSortQuery_when_listPlayers_then_usesDatabaseOrderedWindowWithExactOffset() {
+		// Given
+		PlayersQuery query = new PlayersQuery(75, 50, PlayersSort.SCORE_DESC, null);
+
+		PlayerWithScoreView ranked = playerWithScore("Max", "Mueller", 200, 3);
+		PlayerWithScoreView unranked = playerWithScore("Anna", "Schmidt", null, null);
+
+		when(playerRepository.findAllOrderedByScore(75, 50)).thenReturn(List.of(ranked, unranked));
+		when(playerRepository.count()).thenReturn(200L);
+
+		// When
+		PlayerListResponseTO result = playersService.listPlayers(query);
+
+		// Then
+		assertThat(result.items()).hasSize(2);
+		assertThat(result.items().get(0).first_name()).isEqualTo("Max");
+		assertThat(result.items().get(0).current_total_points()).isEqualTo(200);
+		assertThat(result.items().get(0).current_sequence_index()).isEqualTo(3);
+		assertThat(result.items().get(1).first_name()).isEqualTo("Anna");
+		assertThat(result.items().get(1).current_total_points()).isEqualTo(0);
+		assertThat(result.items().get(1).current_sequence_index()).isEqualTo(0);
+		assertThat(result.items().get(1).updated_at()).isNotNull();
+		assertThat(result.paging().startIndex()).isEqualTo(75);
+		assertThat(result.sort()).isEqualTo(PlayersSort.SCORE_DESC);
+
+		verify(playerRepository).findAllOrderedByScore(75, 50);
+		verifyNoInteractions(playerScoreRepository);
+	}
+
+	@Test
+	void given_fullPage_when_listPlayers_then_nextCursorContinuesAfterLastPlayer() {
+		// Given
+		PlayerWithScoreView first = playerWithScore("Max", "Mueller", 200, 3);
+		PlayerWithScoreView last = playerWithScore("Anna", "Schmidt", 150, 2);
+		when(playerRepository.findAllOrderedByScore(0, 2)).thenReturn(List.of(first, last));
+
+		// When
+		PlayerListResponseTO result = playersService.listPlayers(new PlayersQuery(0, 2, PlayersSort.SCORE_DESC, null));
+		playersService.listPlayers(new PlayersQuery(0, 2, PlayersSort.SCORE_DESC, result.next_cursor()));
+
+		// Then
+		assertThat(result.next_cursor()).isNotNull();
+		PlayersCursor cursor = PlayersCursor.decode(result.next_cursor(), PlayersSort.SCORE_DESC);
+		assertThat(cursor.totalPoints()).isEqualTo(150);
+		assertThat(cursor.lastName()).isEqualTo("Schmidt");
+		assertThat(cursor.firstName()).isEqualTo("Anna");
+		assertThat(cursor.id()).isEqualTo(last.getId());
+
+		verify(playerRepository).findAllOrderedByScoreAfter(150, "Schmidt", "Anna", last.getId(), 2);
+	}
+
+	@Test
+	void given_cursorOfOtherSort_when_listPlayers_then_throwsIllegalArgumentException() {
+		// Given
+		String nameCursor = new PlayersCursor(PlayersSort.NAME, 0, "Schmidt", "Anna", UUID.randomUUID()).encode();
+
+		// When & Then
+		assertThatThrownBy(() -> playersService.listPlayers(new PlayersQuery(0, 50, PlayersSort.SCORE_DESC, nameCursor)))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		verifyNoInteractions(playerRepository);
+	}
+
+	@Test
+	void given_malformedCursor_when_listPlayers_then_throwsIllegalArgumentException() {
+		// When & Then
+		assertThatThrownBy(() -> playersService.listPlayers(new PlayersQuery(0, 50, PlayersSort.NAME, "not-a-cursor")))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Invalid cursor");
+
+		verifyNoInteractions(playerRepository);
+	}
+
+	@Test
+	void given_enabledLeaderboard_when_listPlayersByScore_then_servedFromMemory() {
+		// Given
+		UUID playerId = UUID.randomUUID();
+		LeaderboardEntry entry = new LeaderboardEntry(playerId, "Max", "Mueller", 200, 3, null);
+		when(leaderboardService.isEnabled()).thenReturn(true);
+		when(leaderboardService.page(10, 1)).thenReturn(List.of(entry));
+		when(leaderboardService.size()).thenReturn(42);
+
+		// When
+		PlayerListResponseTO result = playersService.listPlayers(new PlayersQuery(10, 1, PlayersSort.SCORE_DESC, null));
+
+		// Then
+		assertThat(result.items()).hasSize(1);
+		assertThat(result.items().get(0).id()).isEqualTo(playerId);
+		assertThat(result.items().get(0).current_total_points()).isEqualTo(200);
+		assertThat(result.items().get(0).updated_at()).isNotNull();
+		assertThat(result.paging().total()).isEqualTo(42);
+		assertThat(result.next_cursor()).isNotNull();
+
+		verifyNoInteractions(playerRepository, playerScoreRepository);
+	}
+
+	@Test
+	void given_enabledLeaderboard_when_getPlayerRank_then_returnsRankWithNeighbors() {
+		// Given
+		UUID playerId = UUID.randomUUID();
+		LeaderboardEntry above = new LeaderboardEntry(UUID.randomUUID(), "Max", "Mueller", 200, 3, null);
+		LeaderboardEntry own = new LeaderboardEntry(playerId, "Lisa", "Bauer", 150, 2, null);
+		when(leaderboardService.isEnabled()).thenReturn(true);
+		when(leaderboardService.position(playerId, 1))
+			.thenReturn(Optional.of(new LeaderboardPosition(2, 2, own, List.of(above), List.of())));
+
+		// When
+		PlayerRankTO result = playersService.getPlayerRank(playerId, 1);
+
+		// Then
+		assertThat(result.rank()).isEqualTo(2);
+		assertThat(result.total_players()).isEqualTo(2);
+		assertThat(result.player().first_name()).isEqualTo("Lisa");
+		assertThat(result.above()).extracting(PlayerWithScoreTO::first_name).containsExactly("Max");
+		assertThat(result.below()).isEmpty();
+		verifyNoInteractions(playerRepository);
+	}
+
+	@Test
+	void given_unknownPlayer_when_getPlayerRank_then_throwsNotFoundException() {
+		// Given
+		UUID playerId = UUID.randomUUID();
+		when(leaderboardService.isEnabled()).thenReturn(true);
+		when(leaderboardService.position(playerId, 2)).thenReturn(Optional.empty());
+
+		// When & Then
+		assertThatThrownBy(() -> playersService.getPlayerRank(playerId, 2))
+			.isInstanceOf(NotFoundException.class)
+			.hasMessageContaining("Player not found");
+	}
+
+	@Test
+	void given_disabledLeaderboard_when_getPlayerRank_then_computedFromDatabaseWindow() {
+		// Given
+		PlayerWithScoreView above = playerWithScore("Max", "Mueller", 200, 3);
+		PlayerWithScoreView own = playerWithScore("Lisa", "Bauer", 150, 2);
+		PlayerWithScoreView below = playerWithScore("Anna", "Schmidt", 100, 1);
+		UUID playerId = own.getId();
+		when(playerRepository.findWithScoreById(playerId)).thenReturn(Optional.of(own));
+		when(playerRepository.countRankedBefore(150, "Bauer", "Lisa", playerId)).thenReturn(1L);
+		when(playerRepository.findAllOrderedByScore(0, 3)).thenReturn(List.of(above, own, below));
+		when(playerRepository.count()).thenReturn(3L);
+
+		// When
+		PlayerRankTO result = playersService.getPlayerRank(playerId, 1);
+
+		// Then
+		assertThat(result.rank()).isEqualTo(2);
+		assertThat(result.total_players()).isEqualTo(3);
+		assertThat(result.above()).extracting(PlayerWithScoreTO::first_name).containsExactly("Max");
+		assertThat(result.below()).extracting(PlayerWithScoreTO::first_name).containsExactly("Anna");
+	}
+
+	private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+		return new DataIntegrityViolationException("could not execute statement",
+			new ConstraintViolationException("duplicate key value violates unique constraint",
+				new SQLException("duplicate key"), constraintName));
+	}
+
+	private static PlayerWithScoreView playerWithScore(String firstName, String lastName, Integer totalPoints,
+		Integer sequenceIndex) {
+		PlayerWithScoreView row = mock(PlayerWithScoreView.class);
+		when(row.getId()).thenReturn(UUID.randomUUID());
+		when(row.getFirstName()).thenReturn(firstName);
+		when(row.getLastName()).thenReturn(lastName);
+		when(row.getTotalPoints()).thenReturn(totalPoints);
+		when(row.getSequenceIndex()).thenReturn(sequenceIndex);
+		when(row.getUpdatedAt()).thenReturn(totalPoints != null ? Instant.now() : null);
+		return row;
+	}
+
+	private static PlayerNameView nameKey(String firstName, String lastName, boolean taken) {
+		PlayerNameView view = mock(PlayerNameView.class);
+		when(view.getFirstName()).thenReturn(firstName);
+		when(view.getLastName()).thenReturn(lastName);
+		when(view.isTaken()).thenReturn(taken);
+		return view;
 	}
 }
@@ -0,0 +1,150 @@
+package com.skat.backend.application;
+
+import com.skat.backend.application.dto.CreateGameRequest;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.leaderboard.LeaderboardService;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import com.skat.backend.domain.repositories.GameRepository;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import com.skat.backend.domain.repositories.PlayerScoreRepository;
+import com.skat.backend.loadtest.LatencyRecorder;
+import com.skat.backend.loadtest.LoadTestReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stress test for the score write path: 32 concurrent writers store games between a small pool of players, so most
+ * games overlap in at least one player. Every player's sequence must end up gap-free and its total must equal the sum
+ * of the games it won as main player. Throughput and p50/p95/p99 latency of the stored games are written to
+ * {@code target/stress/score-sequence-*.md}. Runs only with {@code -Dskat.stress=true}.
+ */
+@SpringBootTest
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "skat.stress", matches = "true")
+class ScoreSequenceAllocatorStressIT {
+
+    private static final int WRITERS = 32;
+    private static final int GAMES_PER_WRITER = Integer.getInteger("skat.stress.games", 15);
+    private static final int PLAYERS = 6;
+
+    @Autowired
+    private GamesService gamesService;
+
+    @Autowired
+    private PlayersService playersService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerScoreRepository playerScoreRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        playerScoreRepository.deleteAll();
+        gameRepository.deleteAll();
+        playerRepository.deleteAll();
+        leaderboardService.reload();
+    }
+
+    @Test
+    void given_32ConcurrentWritersOnOverlappingPlayers_when_createGames_then_sequencesAreGapFreePerPlayer()
+        throws Exception {
+        // Given
+        var players = new ArrayList<UUID>();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(playersService.createPlayer(new UpsertPlayerRequest("Player" + i, "Stress")).id());
+        }
+        var expectedTotals = Collections.synchronizedMap(new HashMap<UUID, Integer>());
+        var start = new CountDownLatch(1);
+        var recorder = new LatencyRecorder();
+
+        // When
+        var startNanos = 0L;
+        try (var executor = Executors.newFixedThreadPool(WRITERS)) {
+            var futures = new ArrayList<Future<?>>();
+            for (int w = 0; w < WRITERS; w++) {
+                var random = new SplittableRandom(w);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int g = 0; g < GAMES_PER_WRITER; g++) {
+                        var seats = new ArrayList<>(players);
+                        Collections.shuffle(seats, new Random(random.nextLong()));
+                        var main = seats.get(random.nextInt(3));
+                        var score = random.nextInt(-120, 121);
+                        var gameStart = System.nanoTime();
+                        gamesService.createGame(new CreateGameRequest(seats.get(0), seats.get(1), seats.get(2), main,
+                            18, score, OffsetDateTime.now()));
+                        recorder.record("createGame", System.nanoTime() - gameStart, true);
+                        expectedTotals.merge(main, score, Integer::sum);
+                    }
+                    return null;
+                }));
+            }
+            startNanos = System.nanoTime();
+            start.countDown();
+            for (var future : futures) {
+                future.get();
+            }
+        }
+        var seconds = (System.nanoTime() - startNanos) / 1e9;
+
+        // Then
+        var setup = new LinkedHashMap<String, Object>();
+        setup.put("Writers", WRITERS);
+        setup.put("Games per writer", GAMES_PER_WRITER);
+        setup.put("Players", PLAYERS);
+        var report = LoadTestReport.render("Score sequence stress test", setup, recorder.stats(seconds));
+        LoadTestReport.write(Path.of("target", "stress"), "score-sequence", report);
+
+        assertThat(gameRepository.count()).isEqualTo(WRITERS * GAMES_PER_WRITER);
+        for (var player : players) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT sequence_index, total_points FROM player_score WHERE player_id = ? ORDER BY sequence_index",
+                player);
+            for (int i = 0; i < rows.size(); i++) {
+                assertThat(rows.get(i).get("sequence_index")).isEqualTo(i + 1);
+            }
+            var last = rows.isEmpty() ? 0 : (Integer) rows.get(rows.size() - 1).get("total_points");
+            assertThat(last).isEqualTo(expectedTotals.getOrDefault(player, 0));
+
+            var current = jdbcTemplate.queryForMap(
+                "SELECT total_points, sequence_index FROM player_current_score WHERE player_id = ?", player);
+            assertThat(current.get("sequence_index")).isEqualTo(rows.size());
+            assertThat(current.get("total_points")).isEqualTo(last);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.skat.backend.application;
+
+import com.skat.backend.domain.projections.PlayerWithScoreView;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pure unit test for ScoreSequenceAllocator. The locking itself is covered by ScoreSequenceAllocatorStressIT.
+ */
+class ScoreSequenceAllocatorTest {
+
+	@Mock
+	private PlayerRepository playerRepository;
+
+	@InjectMocks
+	private ScoreSequenceAllocator scoreSequenceAllocator;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	@Test
+	void given_lockedPlayers_when_allocate_then_returnsNextSequenceIndexPerPlayer() {
+		// Given
+		PlayerWithScoreView scored = playerWithScore("Anna", "Schmidt", 120, 7);
+		PlayerWithScoreView fresh = playerWithScore("Max", "Mueller", null, null);
+		when(playerRepository.lockAllWithScoreByIdIn(any())).thenReturn(List.of(scored, fresh));
+
+		// When
+		Map<UUID, ScoreSlot> slots = scoreSequenceAllocator.allocate(List.of(scored.getId(), fresh.getId()));
+
+		// Then
+		assertThat(slots.get(scored.getId()).totalPoints()).isEqualTo(120);
+		assertThat(slots.get(scored.getId()).nextSequenceIndex()).isEqualTo(8);
+		assertThat(slots.get(fresh.getId()).totalPoints()).isZero();
+		assertThat(slots.get(fresh.getId()).nextSequenceIndex()).isEqualTo(1);
+		assertThat(slots.get(fresh.getId()).firstName()).isEqualTo("Max");
+	}
+
+	@Test
+	void given_unknownPlayer_when_allocate_then_playerIsMissingFromResult() {
+		// Given
+		UUID unknown = UUID.randomUUID();
+		when(playerRepository.lockAllWithScoreByIdIn(any())).thenReturn(List.of());
+
+		// When
+		Map<UUID, ScoreSlot> slots = scoreSequenceAllocator.allocate(List.of(unknown));
+
+		// Then
+		assertThat(slots).doesNotContainKey(unknown);
+	}
+
+	private static PlayerWithScoreView playerWithScore(String firstName, String lastName, Integer totalPoints,
+		Integer sequenceIndex) {
+		PlayerWithScoreView row = mock(PlayerWithScoreView.class);
+		when(row.getId()).thenReturn(UUID.randomUUID());
+		when(row.getFirstName()).thenReturn(firstName);
+		when(row.getLastName()).thenReturn(lastName);
+		when(row.getTotalPoints()).thenReturn(totalPoints);
+		when(row.getSequenceIndex()).thenReturn(sequenceIndex);
+		return row;
+	}
+}
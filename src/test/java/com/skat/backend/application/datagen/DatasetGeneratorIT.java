@@ -0,0 +1,66 @@
+package com.skat.backend.application.datagen;
+
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the dataset generator following ADR-001, ADR-008, and ADR-012. The datagen profile generates
+ * a small dataset on startup.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "skat.datagen.players=60",
+    "skat.datagen.games=500",
+    "skat.datagen.truncate=true"
+})
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles({ "test", "datagen" })
+class DatasetGeneratorIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void given_datagenProfile_when_started_then_datasetIsGeneratedWithConsistentScores() {
+        // Then
+        assertThat(count("SELECT COUNT(*) FROM player")).isEqualTo(60);
+        assertThat(count("SELECT COUNT(*) FROM game")).isEqualTo(500);
+        assertThat(count("SELECT COUNT(*) FROM player_score")).isEqualTo(1500);
+        assertThat(count("SELECT COUNT(*) FROM game_participant")).isEqualTo(1500);
+        assertThat(count("SELECT COUNT(*) FROM player_current_score")).isEqualTo(60);
+
+        // Sequence indexes of every player run from 1 without gaps
+        assertThat(count("""
+            SELECT COUNT(*) FROM (
+                SELECT player_id FROM player_score GROUP BY player_id
+                HAVING MIN(sequence_index) <> 1 OR MAX(sequence_index) <> COUNT(*)
+            ) gaps
+            """)).isZero();
+        // The current total of every player is the sum of the scores of the games they played as main player
+        assertThat(count("""
+            SELECT COUNT(*) FROM player_current_score cs
+            WHERE cs.total_points <> (SELECT COALESCE(SUM(g.score), 0) FROM game g WHERE g.main_player_id = cs.player_id)
+            """)).isZero();
+        // The newest score row of every player holds its current total
+        assertThat(count("""
+            SELECT COUNT(*) FROM player_current_score cs
+            JOIN player_score s ON s.player_id = cs.player_id AND s.sequence_index = cs.sequence_index
+            WHERE s.total_points <> cs.total_points
+            """)).isZero();
+        assertThat(count("""
+            SELECT COUNT(*) FROM pg_trigger
+            WHERE tgname IN ('player_current_score_init_trg', 'player_current_score_apply_trg',
+                'game_participant_sync_trg') AND tgenabled = 'O'
+            """)).isEqualTo(3);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.skat.backend.application.datagen;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pure unit test for SyntheticGames following ADR-002.
+ */
+class SyntheticGamesTest {
+
+	private static final Instant END = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Test
+	void given_sameSeed_when_iteratingTwice_then_gamesAreIdentical() {
+		// Given
+		var games = new SyntheticGames(7, 100, 500, END, Duration.ofDays(10));
+
+		// When
+		var first = new ArrayList<SyntheticGames.Game>();
+		games.forEach(first::add);
+		var second = new ArrayList<SyntheticGames.Game>();
+		games.forEach(second::add);
+
+		// Then
+		assertThat(first).hasSize(500);
+		assertThat(second).hasSize(500);
+		for (var i = 0; i < first.size(); i++) {
+			assertThat(second.get(i).id()).isEqualTo(first.get(i).id());
+			assertThat(second.get(i).seats()).containsExactly(first.get(i).seats());
+			assertThat(second.get(i).score()).isEqualTo(first.get(i).score());
+		}
+	}
+
+	@Test
+	void given_games_when_iterating_then_everyGameIsAValidSkatGame() {
+		// Given
+		var games = new SyntheticGames(42, 10, 1000, END, Duration.ofDays(1));
+
+		// When & Then
+		var previous = Instant.MIN;
+		for (var game : games) {
+			assertThat(Arrays.stream(game.seats()).distinct().count()).isEqualTo(3);
+			assertThat(Arrays.stream(game.seats()).allMatch(seat -> seat >= 0 && seat < 10)).isTrue();
+			assertThat(game.seats()).contains(game.main());
+			assertThat(game.bid()).isBetween(18, 60);
+			assertThat(Math.abs(game.score())).isGreaterThanOrEqualTo(game.bid());
+			assertThat(game.playedAt()).isAfterOrEqualTo(previous).isBefore(END);
+			previous = game.playedAt();
+		}
+	}
+
+	@Test
+	void given_tooFewPlayers_when_creating_then_illegalArgumentException() {
+		// When & Then
+		assertThatThrownBy(() -> new SyntheticGames(1, 2, 10, END, Duration.ofDays(1)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
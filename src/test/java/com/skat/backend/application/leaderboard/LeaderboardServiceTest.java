@@ -0,0 +1,235 @@
+package com.skat.backend.application.leaderboard;
+
+import com.skat.backend.application.events.PlayerChangedEvent;
+import com.skat.backend.application.events.PlayerDeletedEvent;
+import com.skat.backend.application.events.PlayerScoreChangedEvent;
+import com.skat.backend.domain.projections.PlayerWithScoreView;
+import com.skat.backend.domain.repositories.PlayerRepository;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pure unit test for LeaderboardService following ADR-002. Events are delivered by calling the listener methods
+ * directly.
+ */
+class LeaderboardServiceTest {
+
+	@Mock
+	private PlayerRepository playerRepository;
+
+	@InjectMocks
+	private LeaderboardService leaderboardService;
+
+	private final UUID anna = UUID.randomUUID();
+	private final UUID max = UUID.randomUUID();
+	private final UUID lisa = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(leaderboardService, "enabled", true);
+		when(playerRepository.findAllWithScore()).thenReturn(List.of());
+		leaderboardService.afterSingletonsInstantiated();
+
+		leaderboardService.onPlayerChanged(new PlayerChangedEvent(anna, "Anna", "Schmidt"));
+		leaderboardService.onPlayerChanged(new PlayerChangedEvent(max, "Max", "Mueller"));
+		leaderboardService.onPlayerChanged(new PlayerChangedEvent(lisa, "Lisa", "Bauer"));
+	}
+
+	@Test
+	void given_playersWithoutScores_when_page_then_orderedByName() {
+		// When
+		var page = leaderboardService.page(0, 10);
+
+		// Then
+		assertThat(page).extracting(LeaderboardEntry::firstName).containsExactly("Lisa", "Max", "Anna");
+		assertThat(leaderboardService.size()).isEqualTo(3);
+	}
+
+	@Test
+	void given_scoreEvents_when_page_then_orderedByPointsDescending() {
+		// Given
+		leaderboardService.onPlayerScoreChanged(score(anna, 100, 1));
+		leaderboardService.onPlayerScoreChanged(score(max, 200, 1));
+		leaderboardService.onPlayerScoreChanged(score(lisa, 150, 1));
+
+		// When
+		var page = leaderboardService.page(1, 2);
+
+		// Then
+		assertThat(page).extracting(LeaderboardEntry::firstName).containsExactly("Lisa", "Anna");
+		assertThat(page).extracting(LeaderboardEntry::totalPoints).containsExactly(150, 100);
+	}
+
+	@Test
+	void given_outdatedScoreEvent_when_applied_then_latestScoreIsKept() {
+		// Given
+		leaderboardService.onPlayerScoreChanged(score(anna, 300, 5));
+
+		// When
+		leaderboardService.onPlayerScoreChanged(score(anna, 10, 4));
+
+		// Then
+		var position = leaderboardService.position(anna, 0).orElseThrow();
+		assertThat(position.entry().totalPoints()).isEqualTo(300);
+		assertThat(position.entry().sequenceIndex()).isEqualTo(5);
+	}
+
+	@Test
+	void given_scores_when_position_then_returnsRankWithNeighbors() {
+		// Given
+		leaderboardService.onPlayerScoreChanged(score(anna, 100, 1));
+		leaderboardService.onPlayerScoreChanged(score(max, 200, 1));
+		leaderboardService.onPlayerScoreChanged(score(lisa, 150, 1));
+
+		// When
+		var position = leaderboardService.position(lisa, 1).orElseThrow();
+
+		// Then
+		assertThat(position.rank()).isEqualTo(2);
+		assertThat(position.total()).isEqualTo(3);
+		assertThat(position.above()).extracting(LeaderboardEntry::firstName).containsExactly("Max");
+		assertThat(position.below()).extracting(LeaderboardEntry::firstName).containsExactly("Anna");
+	}
+
+	@Test
+	void given_renamedPlayer_when_page_then_scoreIsKeptAndOrderFollowsNewName() {
+		// Given
+		leaderboardService.onPlayerScoreChanged(score(anna, 100, 1));
+
+		// When
+		leaderboardService.onPlayerChanged(new PlayerChangedEvent(anna, "Anna", "Zimmer"));
+
+		// Then
+		var position = leaderboardService.position(anna, 0).orElseThrow();
+		assertThat(position.entry().lastName()).isEqualTo("Zimmer");
+		assertThat(position.entry().totalPoints()).isEqualTo(100);
+		assertThat(leaderboardService.size()).isEqualTo(3);
+	}
+
+	@Test
+	void given_deletedPlayer_when_position_then_isEmpty() {
+		// When
+		leaderboardService.onPlayerDeleted(new PlayerDeletedEvent(max));
+
+		// Then
+		assertThat(leaderboardService.position(max, 0)).isEmpty();
+		assertThat(leaderboardService.page(0, 10)).extracting(LeaderboardEntry::firstName)
+			.containsExactly("Lisa", "Anna");
+	}
+
+	@Test
+	void given_sortKeyOfLastEntry_when_pageAfter_then_continuesWithNextEntry() {
+		// Given
+		leaderboardService.onPlayerScoreChanged(score(anna, 100, 1));
+		leaderboardService.onPlayerScoreChanged(score(max, 100, 1));
+		var first = leaderboardService.page(0, 1).get(0);
+
+		// When
+		var next = leaderboardService.pageAfter(first.totalPoints(), first.lastName(), first.firstName(),
+			first.playerId(), 5);
+
+		// Then
+		assertThat(first.firstName()).isEqualTo("Max");
+		assertThat(next).extracting(LeaderboardEntry::firstName).containsExactly("Anna", "Lisa");
+	}
+
+	@Test
+	void given_equalPoints_when_ranking_then_namesAreOrderedByCodePointLikeTheCCollation() {
+		// Given
+		var entries = new ArrayList<>(List.of(entry("adler"), entry("Bär"), entry("Bz"), entry("Zander"),
+			entry("\uD83D\uDE00"), entry("\uFF21")));
+
+		// When
+		entries.sort(LeaderboardService.RANKING);
+
+		// Then
+		assertThat(entries).extracting(LeaderboardEntry::lastName)
+			.containsExactly("Bz", "Bär", "Zander", "adler", "\uFF21", "\uD83D\uDE00");
+	}
+
+	@Test
+	void given_idsWithHighBitSet_when_comparing_then_idsAreOrderedAsUnsignedBytes() {
+		// Given
+		var low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+		var high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+		var highLeastSignificant = UUID.fromString("80000000-0000-0000-8000-000000000000");
+
+		// When & Then
+		assertThat(LeaderboardService.compareUnsigned(low, high)).isNegative();
+		assertThat(LeaderboardService.compareUnsigned(high, highLeastSignificant)).isNegative();
+		assertThat(LeaderboardService.compareUnsigned(high, high)).isZero();
+	}
+
+	@Test
+	void given_eventsDuringReload_when_reloadSwapsInOlderSnapshot_then_eventsAreKept() {
+		// Given: the snapshot was read before Anna scored, Max was deleted and Lisa was renamed
+		var snapshot = List.of(row(anna, "Anna", "Schmidt", 10, 1), row(max, "Max", "Mueller", 20, 1),
+			row(lisa, "Lisa", "Bauer", 0, 0));
+		when(playerRepository.findAllWithScore()).thenAnswer(invocation -> {
+			leaderboardService.onPlayerScoreChanged(score(anna, 300, 2));
+			leaderboardService.onPlayerDeleted(new PlayerDeletedEvent(max));
+			leaderboardService.onPlayerChanged(new PlayerChangedEvent(lisa, "Lisa", "Zander"));
+			return snapshot;
+		});
+
+		// When
+		leaderboardService.reload();
+
+		// Then
+		assertThat(leaderboardService.page(0, 10))
+			.extracting(LeaderboardEntry::lastName, LeaderboardEntry::totalPoints, LeaderboardEntry::sequenceIndex)
+			.containsExactly(tuple("Schmidt", 300, 2), tuple("Zander", 0, 0));
+	}
+
+	@Test
+	void given_scoreEventAlreadyInSnapshot_when_reloading_then_newerSnapshotScoreIsKept() {
+		// Given: the event arrived during the read, but the snapshot already holds a later score
+		when(playerRepository.findAllWithScore()).thenAnswer(invocation -> {
+			leaderboardService.onPlayerScoreChanged(score(anna, 100, 1));
+			return List.of(row(anna, "Anna", "Schmidt", 250, 2));
+		});
+
+		// When
+		leaderboardService.reload();
+
+		// Then
+		assertThat(leaderboardService.page(0, 10))
+			.extracting(LeaderboardEntry::totalPoints, LeaderboardEntry::sequenceIndex)
+			.containsExactly(tuple(250, 2));
+	}
+
+	private static PlayerWithScoreView row(UUID id, String firstName, String lastName, int totalPoints,
+		int sequenceIndex) {
+		var row = mock(PlayerWithScoreView.class);
+		when(row.getId()).thenReturn(id);
+		when(row.getFirstName()).thenReturn(firstName);
+		when(row.getLastName()).thenReturn(lastName);
+		when(row.getTotalPoints()).thenReturn(totalPoints);
+		when(row.getSequenceIndex()).thenReturn(sequenceIndex);
+		when(row.getUpdatedAt()).thenReturn(sequenceIndex > 0 ? Instant.now() : null);
+		return row;
+	}
+
+	private static LeaderboardEntry entry(String lastName) {
+		return new LeaderboardEntry(UUID.randomUUID(), "Max", lastName, 0, 0, null);
+	}
+
+	private static PlayerScoreChangedEvent score(UUID playerId, int totalPoints, int sequenceIndex) {
+		return new PlayerScoreChangedEvent(playerId, null, null, totalPoints, sequenceIndex, OffsetDateTime.now());
+	}
+}
@@ -0,0 +1,105 @@
+package com.skat.backend.application.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pure unit test for OrderStatisticTree following ADR-002. The tree is compared against a sorted list as reference.
+ */
+class OrderStatisticTreeTest {
+
+	@Test
+	void given_unsortedInsertions_when_readingByIndex_then_returnsElementsInSortOrder() {
+		// Given
+		var tree = new OrderStatisticTree<Integer>(Comparator.naturalOrder());
+
+		// When
+		for (var value : new int[] { 5, 1, 4, 2, 3 }) {
+			tree.add(value);
+		}
+
+		// Then
+		assertThat(tree.size()).isEqualTo(5);
+		assertThat(tree.get(0)).isEqualTo(1);
+		assertThat(tree.get(4)).isEqualTo(5);
+		assertThat(tree.range(1, 4)).containsExactly(2, 3, 4);
+		assertThat(tree.range(-3, 100)).containsExactly(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	void given_duplicates_when_counting_then_distinguishesStrictAndInclusiveRank() {
+		// Given
+		var tree = new OrderStatisticTree<Integer>(Comparator.naturalOrder());
+		for (var value : new int[] { 1, 2, 2, 2, 3 }) {
+			tree.add(value);
+		}
+
+		// When & Then
+		assertThat(tree.countLessThan(2)).isEqualTo(1);
+		assertThat(tree.countAtMost(2)).isEqualTo(4);
+		assertThat(tree.countLessThan(0)).isZero();
+		assertThat(tree.countAtMost(9)).isEqualTo(5);
+	}
+
+	@Test
+	void given_missingElement_when_remove_then_returnsFalseAndKeepsTree() {
+		// Given
+		var tree = new OrderStatisticTree<Integer>(Comparator.naturalOrder());
+		tree.add(1);
+		tree.add(3);
+
+		// When
+		var removed = tree.remove(2);
+
+		// Then
+		assertThat(removed).isFalse();
+		assertThat(tree.range(0, 2)).containsExactly(1, 3);
+	}
+
+	@Test
+	void given_indexOutOfRange_when_get_then_throwsIndexOutOfBoundsException() {
+		// Given
+		var tree = new OrderStatisticTree<Integer>(Comparator.naturalOrder());
+		tree.add(1);
+
+		// When & Then
+		assertThatThrownBy(() -> tree.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Test
+	void given_randomInsertionsAndRemovals_when_comparedWithSortedList_then_ranksAndRangesMatch() {
+		// Given
+		var random = new Random(42);
+		var tree = new OrderStatisticTree<Integer>(Comparator.naturalOrder());
+		var reference = new ArrayList<Integer>();
+
+		// When
+		for (var i = 0; i < 5_000; i++) {
+			var value = random.nextInt(500);
+			if (random.nextInt(3) == 0) {
+				assertThat(tree.remove(value)).isEqualTo(reference.remove(Integer.valueOf(value)));
+			} else {
+				tree.add(value);
+				reference.add(value);
+			}
+		}
+		reference.sort(Comparator.naturalOrder());
+
+		// Then
+		assertThat(tree.size()).isEqualTo(reference.size());
+		assertThat(tree.range(0, tree.size())).isEqualTo(reference);
+		for (var i = 0; i < 500; i += 7) {
+			var probe = i;
+			var lessThan = (int) reference.stream().filter(v -> v < probe).count();
+			assertThat(tree.countLessThan(probe)).isEqualTo(lessThan);
+			if (lessThan < reference.size()) {
+				assertThat(tree.get(lessThan)).isEqualTo(reference.get(lessThan));
+			}
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.skat.backend.application.leaderboard;
+
+import com.skat.backend.application.dto.ScoreChangeTO;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pure unit test for ScoreStreamSubscriber following ADR-002. The emitter records the events instead of writing them
+ * to a connection.
+ */
+class ScoreStreamSubscriberTest {
+
+	private final RecordingEmitter emitter = new RecordingEmitter();
+
+	private final UUID anna = UUID.randomUUID();
+	private final UUID max = UUID.randomUUID();
+	private final UUID lisa = UUID.randomUUID();
+
+	@Test
+	void given_changesOfTheSamePlayer_when_drained_then_onlyTheLatestIsSent() {
+		// Given
+		var subscriber = new ScoreStreamSubscriber(emitter, 10);
+		var first = subscriber.offer(new ScoreChangeTO(anna, 36, 1));
+		var second = subscriber.offer(new ScoreChangeTO(max, 0, 1));
+		var third = subscriber.offer(new ScoreChangeTO(anna, 76, 2));
+		var outOfOrder = subscriber.offer(new ScoreChangeTO(anna, 36, 1));
+
+		// When
+		var open = subscriber.drain();
+
+		// Then
+		assertThat(first).isTrue();
+		assertThat(second).isFalse();
+		assertThat(third).isFalse();
+		assertThat(outOfOrder).isFalse();
+		assertThat(open).isTrue();
+		assertThat(emitter.events).containsExactly(
+			"score:" + new ScoreChangeTO(anna, 76, 2),
+			"score:" + new ScoreChangeTO(max, 0, 1));
+	}
+
+	@Test
+	void given_morePendingPlayersThanCapacity_when_drained_then_sendsResyncFollowedByNewerChanges() {
+		// Given
+		var subscriber = new ScoreStreamSubscriber(emitter, 2);
+		subscriber.offer(new ScoreChangeTO(anna, 36, 1));
+		subscriber.offer(new ScoreChangeTO(max, 0, 1));
+		subscriber.offer(new ScoreChangeTO(lisa, 0, 1));
+		subscriber.offer(new ScoreChangeTO(anna, 76, 2));
+
+		// When
+		subscriber.drain();
+
+		// Then
+		assertThat(emitter.events).containsExactly(
+			"resync:",
+			"score:" + new ScoreChangeTO(anna, 76, 2));
+	}
+
+	@Test
+	void given_drainedSubscriber_when_offeredAgain_then_requestsANewDrain() {
+		// Given
+		var subscriber = new ScoreStreamSubscriber(emitter, 10);
+		subscriber.offer(new ScoreChangeTO(anna, 36, 1));
+		subscriber.drain();
+
+		// When
+		var scheduled = subscriber.offer(new ScoreChangeTO(anna, 76, 2));
+
+		// Then
+		assertThat(scheduled).isTrue();
+	}
+
+	@Test
+	void given_brokenConnection_when_drained_then_subscriberIsClosed() {
+		// Given
+		emitter.failing = true;
+		var subscriber = new ScoreStreamSubscriber(emitter, 10);
+		subscriber.offer(new ScoreChangeTO(anna, 36, 1));
+
+		// When
+		var open = subscriber.drain();
+
+		// Then
+		assertThat(open).isFalse();
+		assertThat(subscriber.offer(new ScoreChangeTO(anna, 76, 2))).isFalse();
+	}
+
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final List<String> events = new ArrayList<>();
+		private boolean failing;
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			if (failing) {
+				throw new IOException("Broken pipe");
+			}
+			var parts = builder.build().stream().map(part -> part.getData().toString()).toList();
+			// parts: "event:<name>\ndata:", <payload>, "\n\n"
+			var name = parts.get(0).substring("event:".length(), parts.get(0).indexOf('\n'));
+			events.add(name + ":" + (parts.size() > 2 ? parts.get(1) : ""));
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.skat.backend.application.profiling;
+
+import com.skat.backend.application.dto.SlowQueryTO;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pure unit test for SlowQueryLog following ADR-002.
+ */
+class SlowQueryLogTest {
+
+	private final SlowQueryLog slowQueryLog = new SlowQueryLog();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(slowQueryLog, "threshold", Duration.ofMillis(100));
+		ReflectionTestUtils.setField(slowQueryLog, "capacity", 3);
+		ReflectionTestUtils.setField(slowQueryLog, "explainSampleRate", 1.0);
+	}
+
+	@Test
+	void given_threshold_when_checkingElapsedTimes_then_onlyStatementsAtOrAboveAreSlow() {
+		// When & Then
+		assertThat(slowQueryLog.isSlow(99)).isFalse();
+		assertThat(slowQueryLog.isSlow(100)).isTrue();
+	}
+
+	@Test
+	void given_moreSlowQueriesThanCapacity_when_recording_then_theSlowestAreKeptSlowestFirst() {
+		// Given
+		for (var elapsed : List.of(150L, 900L, 120L, 400L, 700L)) {
+			slowQueryLog.record(query("SELECT " + elapsed, elapsed));
+		}
+
+		// When
+		var snapshot = slowQueryLog.snapshot();
+
+		// Then
+		assertThat(snapshot.threshold_ms()).isEqualTo(100);
+		assertThat(snapshot.slowest()).extracting(SlowQueryTO::elapsed_ms).containsExactly(900L, 700L, 400L);
+	}
+
+	@Test
+	void given_sampling_when_checkingStatements_then_onlyReadingStatementsAreExplained() {
+		// When & Then
+		assertThat(slowQueryLog.shouldExplain("select p.id from player p")).isTrue();
+		assertThat(slowQueryLog.shouldExplain("  WITH ranked AS (SELECT 1) SELECT * FROM ranked")).isTrue();
+		assertThat(slowQueryLog.shouldExplain("update game set score = ?")).isFalse();
+		assertThat(slowQueryLog.shouldExplain("insert into player (id) values (?)")).isFalse();
+	}
+
+	@Test
+	void given_disabledSampling_when_checkingStatements_then_nothingIsExplained() {
+		// Given
+		ReflectionTestUtils.setField(slowQueryLog, "explainSampleRate", 0.0);
+
+		// When & Then
+		assertThat(slowQueryLog.shouldExplain("select p.id from player p")).isFalse();
+	}
+
+	@Test
+	void given_explainedQuery_when_planIsCaptured_then_itIsListedWithThePlan() throws Exception {
+		// Given
+		var query = query("select p.id from player p", 250);
+
+		// When
+		slowQueryLog.explain(query, () -> "Seq Scan on player p");
+
+		// Then
+		for (var i = 0; i < 100 && slowQueryLog.snapshot().explained().isEmpty(); i++) {
+			Thread.sleep(10);
+		}
+		assertThat(slowQueryLog.snapshot().explained()).singleElement().satisfies(explained -> {
+			assertThat(explained.sql()).isEqualTo(query.sql());
+			assertThat(explained.plan()).isEqualTo("Seq Scan on player p");
+		});
+	}
+
+	@Test
+	void given_recordedQueries_when_clearing_then_logIsEmpty() {
+		// Given
+		slowQueryLog.record(query("select 1", 300));
+
+		// When
+		slowQueryLog.clear();
+
+		// Then
+		assertThat(slowQueryLog.snapshot().slowest()).isEmpty();
+	}
+
+	private static SlowQueryTO query(String sql, long elapsedMillis) {
+		return new SlowQueryTO(sql, List.of(), 1, elapsedMillis, OffsetDateTime.now(), null);
+	}
+}
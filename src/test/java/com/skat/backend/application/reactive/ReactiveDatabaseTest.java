@@ -0,0 +1,48 @@
+package com.skat.backend.application.reactive;
+
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pure unit test for ReactiveDatabase following ADR-002.
+ */
+class ReactiveDatabaseTest {
+
+	@Test
+	void given_postgresJdbcUrl_when_derivingConnectionOptions_then_hostDatabaseAndCredentialsAreKept() {
+		// When
+		var options = ReactiveDatabase.connectionOptions("jdbc:postgresql://db.example:5433/skat?sslmode=require",
+			"skat", "secret");
+
+		// Then
+		assertThat(options.getValue(ConnectionFactoryOptions.DRIVER)).isEqualTo("postgresql");
+		assertThat(options.getValue(ConnectionFactoryOptions.HOST)).isEqualTo("db.example");
+		assertThat(options.getValue(ConnectionFactoryOptions.PORT)).isEqualTo(5433);
+		assertThat(options.getValue(ConnectionFactoryOptions.DATABASE)).isEqualTo("skat");
+		assertThat(options.getValue(ConnectionFactoryOptions.USER)).isEqualTo("skat");
+		assertThat(options.getValue(ConnectionFactoryOptions.PASSWORD)).hasToString("secret");
+		assertThat(options.getValue(Option.valueOf("sslmode"))).isEqualTo("require");
+	}
+
+	@Test
+	void given_missingCredentials_when_derivingConnectionOptions_then_noneAreSet() {
+		// When
+		var options = ReactiveDatabase.connectionOptions("jdbc:postgresql://localhost/skat", null, null);
+
+		// Then
+		assertThat(options.hasOption(ConnectionFactoryOptions.USER)).isFalse();
+		assertThat(options.hasOption(ConnectionFactoryOptions.PASSWORD)).isFalse();
+	}
+
+	@Test
+	void given_nonPostgresUrl_when_derivingConnectionOptions_then_throwsIllegalStateException() {
+		// When & Then
+		assertThatThrownBy(() -> ReactiveDatabase.connectionOptions("jdbc:h2:mem:skat", "sa", ""))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("jdbc:h2:mem:skat");
+	}
+}
@@ -0,0 +1,208 @@
+package com.skat.backend.application.replica;
+
+import com.skat.backend.application.PlayerScoresService;
+import com.skat.backend.application.PlayersService;
+import com.skat.backend.application.dto.PlayerWithScoreTO;
+import com.skat.backend.application.dto.PlayersQuery;
+import com.skat.backend.application.dto.PlayersSort;
+import com.skat.backend.application.dto.UpsertPlayerRequest;
+import com.skat.backend.application.profiling.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the read replica routing following ADR-001 and ADR-008. Unlike the other integration tests it
+ * starts two PostgreSQL containers: a primary and a streaming replica cloned from it with pg_basebackup. Every
+ * statement counts as slow and is explained, to check where the plans are taken.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "skat.replica.check-interval=100ms",
+    "skat.slow-query.threshold=0ms",
+    "skat.slow-query.explain-sample-rate=1"
+})
+@ActiveProfiles("test")
+@Testcontainers
+class ReadReplicaRoutingIT {
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:18")
+        .withNetwork(NETWORK)
+        .withNetworkAliases("primary")
+        // The default pg_hba.conf only accepts local replication connections
+        .withCopyToContainer(Transferable.of("echo 'host replication all all scram-sha-256' >> \"$PGDATA/pg_hba.conf\""),
+            "/docker-entrypoint-initdb.d/replication.sh");
+
+    @Container
+    static final GenericContainer<?> REPLICA = new GenericContainer<>("postgres:18")
+        .withNetwork(NETWORK)
+        .dependsOn(PRIMARY)
+        .withEnv("PGPASSWORD", "test")
+        .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+        .withCommand("bash", "-c", """
+            pg_basebackup -h primary -U test -D "$PGDATA" -R -X stream \
+            && chmod 700 "$PGDATA" && exec postgres -D "$PGDATA"
+            """)
+        .withExposedPorts(5432)
+        .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1));
+
+    @DynamicPropertySource
+    static void databases(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username", PRIMARY::getUsername);
+        registry.add("spring.datasource.password", PRIMARY::getPassword);
+        registry.add("skat.replica.urls", ReadReplicaRoutingIT::replicaUrl);
+    }
+
+    @Autowired
+    private PlayersService playersService;
+
+    @Autowired
+    private PlayerScoresService playerScoresService;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void given_caughtUpReplica_when_listingPlayers_then_replicaServesTheNewPlayer() throws InterruptedException {
+        // Given
+        var lastName = "Replika-" + UUID.randomUUID();
+        playersService.createPlayer(new UpsertPlayerRequest("Rita", lastName));
+        var replicaReads = reads("replica-1");
+
+        // When
+        var lastNames = listUntilReplicaServes(replicaReads);
+
+        // Then
+        assertThat(lastNames).contains(lastName);
+        assertThat(meterRegistry.get("skat.datasource.replica.available").tag("replica", "replica-1").gauge().value())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void given_replicaWithPausedReplay_when_listingAfterWrite_then_primaryServesUntilReplicaCaughtUp()
+        throws Exception {
+        // Given
+        listUntilReplicaServes(reads("replica-1"));
+        onReplica("SELECT pg_wal_replay_pause()");
+        var lastName = "Pausiert-" + UUID.randomUUID();
+        try {
+            playersService.createPlayer(new UpsertPlayerRequest("Paul", lastName));
+            var primaryReads = reads(ReadReplicas.PRIMARY);
+            var replicaReads = reads("replica-1");
+
+            // When
+            var lastNames = listLastNames();
+
+            // Then
+            assertThat(lastNames).contains(lastName);
+            assertThat(reads(ReadReplicas.PRIMARY)).isEqualTo(primaryReads + 1);
+            assertThat(reads("replica-1")).isEqualTo(replicaReads);
+        } finally {
+            onReplica("SELECT pg_wal_replay_resume()");
+        }
+
+        // Then, once replayed
+        assertThat(listUntilReplicaServes(reads("replica-1"))).contains(lastName);
+    }
+
+    @Test
+    void given_caughtUpReplica_when_exportingScores_then_exportRunsOnThePrimary() throws InterruptedException {
+        // Given
+        listUntilReplicaServes(reads("replica-1"));
+        var replicaReads = reads("replica-1");
+        var primaryReads = reads(ReadReplicas.PRIMARY);
+
+        // When
+        playerScoresService.forEachScore(OffsetDateTime.now().minusYears(1), null, score -> { });
+
+        // Then: a read-only connection, taken from the primary despite the usable replica
+        assertThat(reads("replica-1")).isEqualTo(replicaReads);
+        assertThat(reads(ReadReplicas.PRIMARY)).isEqualTo(primaryReads + 1);
+    }
+
+    @Test
+    void given_slowReadOnReplica_when_explaining_then_planIsTakenOnThePrimary() throws InterruptedException {
+        // Given
+        listUntilReplicaServes(reads("replica-1"));
+        slowQueryLog.clear();
+        var readOnlyConnections = reads("replica-1") + reads(ReadReplicas.PRIMARY);
+
+        // When
+        listLastNames();
+        var explained = awaitExplained("FROM player p");
+
+        // Then
+        assertThat(explained).isTrue();
+        assertThat(reads("replica-1") + reads(ReadReplicas.PRIMARY)).isEqualTo(readOnlyConnections + 1);
+    }
+
+    private List<String> listUntilReplicaServes(double replicaReads) throws InterruptedException {
+        var deadline = System.nanoTime() + 30_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            var lastNames = listLastNames();
+            if (reads("replica-1") > replicaReads) {
+                return lastNames;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("No read was routed to the replica");
+    }
+
+    private List<String> listLastNames() {
+        return playersService.listPlayers(new PlayersQuery(0, 1000, PlayersSort.NAME, null)).items().stream()
+            .map(PlayerWithScoreTO::last_name)
+            .toList();
+    }
+
+    private boolean awaitExplained(String sqlPart) throws InterruptedException {
+        // Plans are captured in the background, one at a time
+        var deadline = System.nanoTime() + 10_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            if (slowQueryLog.snapshot().explained().stream().anyMatch(query -> query.sql().contains(sqlPart))) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private double reads(String route) {
+        return meterRegistry.counter("skat.datasource.reads", "route", route).count();
+    }
+
+    private static void onReplica(String sql) throws SQLException {
+        try (var connection = DriverManager.getConnection(replicaUrl(), PRIMARY.getUsername(), PRIMARY.getPassword());
+            var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String replicaUrl() {
+        return "jdbc:postgresql://%s:%d/%s".formatted(REPLICA.getHost(), REPLICA.getMappedPort(5432),
+            PRIMARY.getDatabaseName());
+    }
+}
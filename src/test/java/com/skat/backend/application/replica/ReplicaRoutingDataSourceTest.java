@@ -0,0 +1,145 @@
+package com.skat.backend.application.replica;
+
+import com.skat.backend.application.DataVersion;
+import com.skat.backend.application.events.PlayerChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pure unit test for ReplicaRoutingDataSource and the replica selection of ReadReplicas following ADR-002.
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private final DataSource primary = mock(DataSource.class);
+	private final Connection primaryConnection = mock(Connection.class);
+	private final DataVersion dataVersion = new DataVersion();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ReadReplicas readReplicas = new ReadReplicas();
+
+	private ReplicaRoutingDataSource routing;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws SQLException {
+		when(primary.getConnection()).thenReturn(primaryConnection);
+		ReflectionTestUtils.setField(readReplicas, "dataVersion", dataVersion);
+		ReflectionTestUtils.setField(readReplicas, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(readReplicas, "maxLag", Duration.ofSeconds(5));
+		ObjectProvider<ReadReplicas> provider = mock(ObjectProvider.class);
+		when(provider.getIfAvailable()).thenReturn(readReplicas);
+		routing = new ReplicaRoutingDataSource(primary, provider);
+	}
+
+	@Test
+	void given_currentReplicas_when_gettingConnections_then_replicasServeInTurn() throws SQLException {
+		// Given
+		var first = replica("replica-1");
+		var second = replica("replica-2");
+		first.checked(0.1, true, dataVersion.current());
+		second.checked(0.2, true, dataVersion.current());
+		useReplicas(first, second);
+
+		// When
+		var connections = List.of(routing.getConnection(), routing.getConnection(), routing.getConnection());
+
+		// Then
+		assertThat(connections).containsExactly(first.dataSource().getConnection(),
+			second.dataSource().getConnection(), first.dataSource().getConnection());
+		assertThat(reads("replica-1")).isEqualTo(2);
+		assertThat(reads("replica-2")).isEqualTo(1);
+		assertThat(reads(ReadReplicas.PRIMARY)).isZero();
+	}
+
+	@Test
+	void given_writeNotYetReplayed_when_gettingConnection_then_readOnlyPrimaryConnectionIsReturned()
+		throws SQLException {
+		// Given
+		var replica = replica("replica-1");
+		replica.checked(0, true, dataVersion.current());
+		useReplicas(replica);
+		dataVersion.onPlayerChanged(new PlayerChangedEvent(UUID.randomUUID(), "Anna", "Alt"));
+
+		// When
+		var connection = routing.getConnection();
+
+		// Then
+		assertThat(connection).isSameAs(primaryConnection);
+		verify(primaryConnection).setReadOnly(true);
+		assertThat(reads(ReadReplicas.PRIMARY)).isEqualTo(1);
+	}
+
+	@Test
+	void given_replicaLaggingPastThreshold_when_gettingConnection_then_primaryServes() throws SQLException {
+		// Given
+		var replica = replica("replica-1");
+		replica.checked(6, true, dataVersion.current());
+		useReplicas(replica);
+
+		// When
+		var connection = routing.getConnection();
+
+		// Then
+		assertThat(connection).isSameAs(primaryConnection);
+	}
+
+	@Test
+	void given_unreachableReplica_when_gettingConnection_then_nextReplicaServesAndItIsMarkedDown()
+		throws SQLException {
+		// Given
+		var down = replica("replica-1");
+		var up = replica("replica-2");
+		down.checked(0, true, dataVersion.current());
+		up.checked(0, true, dataVersion.current());
+		when(down.dataSource().getConnection()).thenThrow(new SQLException("Connection refused"));
+		useReplicas(down, up);
+
+		// When
+		var connection = routing.getConnection();
+
+		// Then
+		assertThat(connection).isSameAs(up.dataSource().getConnection());
+		assertThat(down.isAvailable()).isFalse();
+		assertThat(readReplicas.candidates()).containsExactly(up);
+	}
+
+	@Test
+	void given_replicaNotCheckedYet_when_gettingConnection_then_primaryServes() throws SQLException {
+		// Given
+		useReplicas(replica("replica-1"));
+
+		// When
+		var connection = routing.getConnection();
+
+		// Then
+		assertThat(connection).isSameAs(primaryConnection);
+		assertThat(reads(ReadReplicas.PRIMARY)).isEqualTo(1);
+	}
+
+	private ReadReplica replica(String name) throws SQLException {
+		var dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+		return new ReadReplica(name, dataSource);
+	}
+
+	private void useReplicas(ReadReplica... replicas) {
+		ReflectionTestUtils.setField(readReplicas, "replicas", List.of(replicas));
+	}
+
+	private double reads(String route) {
+		return meterRegistry.counter("skat.datasource.reads", "route", route).count();
+	}
+}
@@ -0,0 +1,84 @@
+package com.skat.backend.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Open-model load generator: starts requests at a fixed arrival rate regardless of how fast the server answers, so
+ * a slow server builds up concurrent requests as real clients would. Each request runs on its own virtual thread and
+ * picks its operation from a weighted mix.
+ */
+public class ArrivalRateLoadGenerator {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+	private final List<Operation> operations;
+	private final int totalWeight;
+	private final long seed;
+
+	public ArrivalRateLoadGenerator(List<Operation> operations, long seed) {
+		this.operations = List.copyOf(operations);
+		this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+		this.seed = seed;
+	}
+
+	/**
+	 * Sends {@code ratePerSecond} requests per second for the given duration and waits for the outstanding
+	 * responses.
+	 */
+	public void run(double ratePerSecond, Duration duration, LatencyRecorder recorder) {
+		var random = new Random(seed);
+		var intervalNanos = (long) (1e9 / ratePerSecond);
+		var requests = (long) (duration.toNanos() / intervalNanos);
+		var start = System.nanoTime();
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (long i = 0; i < requests; i++) {
+				var scheduled = start + i * intervalNanos;
+				var wait = scheduled - System.nanoTime();
+				if (wait > 0) {
+					LockSupport.parkNanos(wait);
+				}
+				var operation = pick(random);
+				var request = operation.request().apply(new Random(random.nextLong()));
+				executor.execute(() -> send(operation.name(), request, scheduled, recorder));
+			}
+		}
+	}
+
+	private void send(String operation, HttpRequest request, long scheduled, LatencyRecorder recorder) {
+		var success = false;
+		try {
+			var response = client.send(HttpRequest.newBuilder(request, (name, value) -> true)
+				.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.discarding());
+			success = response.statusCode() < 400;
+		} catch (Exception e) {
+			// Counted as error below
+		}
+		recorder.record(operation, System.nanoTime() - scheduled, success);
+	}
+
+	private Operation pick(Random random) {
+		var value = random.nextInt(totalWeight);
+		for (var operation : operations) {
+			value -= operation.weight();
+			if (value < 0) {
+				return operation;
+			}
+		}
+		throw new IllegalStateException("No operation for weight " + value);
+	}
+
+	/**
+	 * Named request type of the traffic mix; {@code request} builds a request from the given random source.
+	 */
+	public record Operation(String name, int weight, Function<Random, HttpRequest> request) {
+	}
+}
@@ -0,0 +1,83 @@
+package com.skat.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the latencies and failures of every request per operation. Latencies are measured from the scheduled
+ * start of a request, so time spent waiting for a free client counts as well (no coordinated omission).
+ */
+public class LatencyRecorder {
+
+	private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+	public void record(String operation, long latencyNanos, boolean success) {
+		samples.computeIfAbsent(operation, name -> new Samples()).add(latencyNanos, success);
+	}
+
+	/**
+	 * @return statistics per operation, ordered by name, plus the operation {@code total} over all requests
+	 */
+	public Map<String, OperationStats> stats(double durationSeconds) {
+		var stats = new TreeMap<String, OperationStats>();
+		var all = new Samples();
+		samples.forEach((operation, operationSamples) -> {
+			stats.put(operation, operationSamples.stats(durationSeconds));
+			all.addAll(operationSamples);
+		});
+		stats.put("total", all.stats(durationSeconds));
+		return stats;
+	}
+
+	public record OperationStats(int requests, int errors, double throughput, double p50Millis, double p95Millis,
+		double p99Millis, double maxMillis) {
+
+		public double errorRate() {
+			return requests == 0 ? 0 : (double) errors / requests;
+		}
+	}
+
+	private static final class Samples {
+
+		private long[] latencies = new long[1024];
+		private int count;
+		private int errors;
+
+		synchronized void add(long latencyNanos, boolean success) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = latencyNanos;
+			if (!success) {
+				errors++;
+			}
+		}
+
+		synchronized void addAll(Samples other) {
+			synchronized (other) {
+				for (var i = 0; i < other.count; i++) {
+					add(other.latencies[i], true);
+				}
+				errors += other.errors;
+			}
+		}
+
+		synchronized OperationStats stats(double durationSeconds) {
+			var sorted = Arrays.copyOf(latencies, count);
+			Arrays.sort(sorted);
+			return new OperationStats(count, errors, count / durationSeconds, percentile(sorted, 0.50),
+				percentile(sorted, 0.95), percentile(sorted, 0.99), count == 0 ? 0 : sorted[count - 1] / 1e6);
+		}
+
+		private static double percentile(long[] sorted, double quantile) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			// Nearest rank
+			var rank = (int) Math.ceil(quantile * sorted.length);
+			return sorted[Math.max(rank, 1) - 1] / 1e6;
+		}
+	}
+}
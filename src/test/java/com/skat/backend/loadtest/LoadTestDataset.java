@@ -0,0 +1,108 @@
+package com.skat.backend.loadtest;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds a reproducible dataset of players, games and score history for load tests. Rows are written with plain JDBC
+ * batches; the database triggers derive player_current_score and game_participant as for rows written by the
+ * application. Every player's score history is consistent: gap-free sequence indexes and cumulative totals, with the
+ * game score credited to the main player.
+ */
+public class LoadTestDataset {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Random random;
+
+	public LoadTestDataset(JdbcTemplate jdbcTemplate, long seed) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.random = new Random(seed);
+	}
+
+	/**
+	 * Replaces all players, games and scores with {@code players} players and {@code games} games, played one minute
+	 * apart up to now.
+	 *
+	 * @return the seeded data
+	 */
+	public Seeded seed(int players, int games) {
+		jdbcTemplate.execute("TRUNCATE player_score, game_participant, game, player_current_score, player");
+
+		var playerIds = new ArrayList<UUID>(players);
+		var playerRows = new ArrayList<Object[]>(players);
+		for (var i = 0; i < players; i++) {
+			var id = new UUID(random.nextLong(), random.nextLong());
+			playerIds.add(id);
+			playerRows.add(new Object[] { id, "Load" + i, "Player" + random.nextInt(players) + "-" + i });
+		}
+		insert("INSERT INTO player (id, first_name, last_name) VALUES (?, ?, ?)", playerRows);
+
+		var sequences = new int[players];
+		var totals = new int[players];
+		var gameIds = new ArrayList<UUID>(games);
+		var gameRows = new ArrayList<Object[]>(BATCH_SIZE);
+		var scoreRows = new ArrayList<Object[]>(3 * BATCH_SIZE);
+		var start = Instant.now().truncatedTo(ChronoUnit.SECONDS).minus(games, ChronoUnit.MINUTES);
+		for (var g = 0; g < games; g++) {
+			var seats = seats(players);
+			var gameId = new UUID(random.nextLong(), random.nextLong());
+			var main = seats[random.nextInt(3)];
+			var score = randomScore(random);
+			var playedAt = Timestamp.from(start.plus(g, ChronoUnit.MINUTES));
+			gameIds.add(gameId);
+			gameRows.add(new Object[] { gameId, playerIds.get(seats[0]), playerIds.get(seats[1]),
+				playerIds.get(seats[2]), playerIds.get(main), randomBid(random), score, playedAt });
+			for (var seat : seats) {
+				totals[seat] += seat == main ? score : 0;
+				scoreRows.add(new Object[] { UUID.randomUUID(), playerIds.get(seat), gameId, ++sequences[seat],
+					totals[seat], playedAt });
+			}
+			if (gameRows.size() == BATCH_SIZE || g == games - 1) {
+				insert("INSERT INTO game (id, player1_id, player2_id, player3_id, main_player_id, bid_value, score, "
+					+ "played_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", gameRows);
+				insert("INSERT INTO player_score (id, player_id, game_id, sequence_index, total_points, created_at) "
+					+ "VALUES (?, ?, ?, ?, ?, ?)", scoreRows);
+				gameRows.clear();
+				scoreRows.clear();
+			}
+		}
+		return new Seeded(List.copyOf(playerIds), List.copyOf(gameIds));
+	}
+
+	static int randomBid(Random random) {
+		return 18 + random.nextInt(43);
+	}
+
+	static int randomScore(Random random) {
+		return random.nextInt(-120, 121);
+	}
+
+	private int[] seats(int players) {
+		var seats = new int[3];
+		seats[0] = random.nextInt(players);
+		do {
+			seats[1] = random.nextInt(players);
+		} while (seats[1] == seats[0]);
+		do {
+			seats[2] = random.nextInt(players);
+		} while (seats[2] == seats[0] || seats[2] == seats[1]);
+		return seats;
+	}
+
+	private void insert(String sql, List<Object[]> rows) {
+		for (var from = 0; from < rows.size(); from += BATCH_SIZE) {
+			jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+		}
+	}
+
+	public record Seeded(List<UUID> playerIds, List<UUID> gameIds) {
+	}
+}
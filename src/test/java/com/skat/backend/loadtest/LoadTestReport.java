@@ -0,0 +1,42 @@
+package com.skat.backend.loadtest;
+
+import com.skat.backend.loadtest.LatencyRecorder.OperationStats;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the result of a load test run as Markdown table with throughput and p50/p95/p99 latency per operation.
+ */
+public final class LoadTestReport {
+
+	private LoadTestReport() {
+	}
+
+	public static String render(String title, Map<String, Object> setup, Map<String, OperationStats> stats) {
+		var report = new StringBuilder("# ").append(title).append("\n\n");
+		setup.forEach((name, value) -> report.append("- ").append(name).append(": ").append(value).append('\n'));
+		report.append("\n| Operation | Requests | Errors | Throughput (req/s) ")
+			.append("| p50 (ms) | p95 (ms) | p99 (ms) | Max (ms) |\n");
+		report.append("|---|---:|---:|---:|---:|---:|---:|---:|\n");
+		stats.forEach((operation, s) -> report.append(String.format(Locale.ROOT,
+			"| %s | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f |%n", operation, s.requests(), s.errors(),
+			s.throughput(), s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis())));
+		return report.toString();
+	}
+
+	/**
+	 * Stores the report as {@code <name>-<timestamp>.md} in the given directory.
+	 *
+	 * @return the written file
+	 */
+	public static Path write(Path directory, String name, String report) throws IOException {
+		Files.createDirectories(directory);
+		var timestamp = OffsetDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+		return Files.writeString(directory.resolve(name + "-" + timestamp + ".md"), report);
+	}
+}
@@ -0,0 +1,147 @@
+package com.skat.backend.loadtest;
+
+import com.skat.backend.application.leaderboard.LeaderboardService;
+import com.skat.backend.config.PostgresTestcontainersConfig;
+import com.skat.backend.loadtest.ArrivalRateLoadGenerator.Operation;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the player and game endpoints following ADR-001, ADR-008, and ADR-012. Seeds a dataset, drives a
+ * mixed read/write traffic at a fixed arrival rate and writes throughput and latency percentiles per operation to
+ * {@code target/load-test}. Skipped by default; run with {@code mvn -Ploadtest verify} and size it with
+ * {@code -Dskat.loadtest.players}, {@code .games}, {@code .rate} (requests per second), {@code .duration} and
+ * {@code .warmup} (ISO-8601 durations). Runs on platform threads; {@link PlayersVirtualThreadsLoadIT} repeats it on
+ * virtual threads for comparison.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.threads.virtual.enabled=false")
+@Import(PostgresTestcontainersConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "skat.loadtest", matches = "true")
+class PlayersLoadIT {
+
+    private static final int PLAYERS = Integer.getInteger("skat.loadtest.players", 5000);
+    private static final int GAMES = Integer.getInteger("skat.loadtest.games", 20000);
+    private static final double RATE = Double.parseDouble(System.getProperty("skat.loadtest.rate", "100"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("skat.loadtest.duration", "PT60S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("skat.loadtest.warmup", "PT10S"));
+    private static final double MAX_ERROR_RATE = 0.01;
+    private static final long SEED = Long.getLong("skat.loadtest.seed", 42);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Test
+    void mixedTraffic_atFixedArrivalRate() throws Exception {
+        // Given
+        var seeded = new LoadTestDataset(jdbcTemplate, SEED).seed(PLAYERS, GAMES);
+        leaderboardService.reload();
+        var generator = new ArrivalRateLoadGenerator(operations(seeded), SEED);
+        generator.run(RATE, WARMUP, new LatencyRecorder());
+
+        // When
+        var recorder = new LatencyRecorder();
+        var start = System.nanoTime();
+        generator.run(RATE, DURATION, recorder);
+        var seconds = (System.nanoTime() - start) / 1e9;
+
+        // Then
+        var stats = recorder.stats(seconds);
+        var setup = new LinkedHashMap<String, Object>();
+        setup.put("Players", PLAYERS);
+        setup.put("Games", GAMES);
+        setup.put("Arrival rate (req/s)", RATE);
+        setup.put("Duration", DURATION);
+        setup.put("Warmup", WARMUP);
+        setup.put("Seed", SEED);
+        setup.put("Threads", virtualThreads ? "virtual" : "platform");
+        var report = LoadTestReport.render("Players load test", setup, stats);
+        LoadTestReport.write(Path.of("target", "load-test"),
+            virtualThreads ? "players-virtual-threads" : "players-platform-threads", report);
+
+        assertThat(stats.get("total").requests()).isPositive();
+        assertThat(stats.get("total").errorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    /**
+     * Read-heavy mix: listings and lookups make up 85% of the requests, new games, players and renames the rest.
+     */
+    private List<Operation> operations(LoadTestDataset.Seeded seeded) {
+        var players = seeded.playerIds();
+        var games = seeded.gameIds();
+        return List.of(
+            new Operation("list players by name", 25, random -> get("/api/players?sort=NAME&pageSize=50&startIndex="
+                + random.nextInt(Math.max(PLAYERS - 50, 1)))),
+            new Operation("list players by score", 25, random -> get("/api/players?sort=SCORE_DESC&pageSize=50"
+                + "&startIndex=" + 50 * random.nextInt(10))),
+            new Operation("player rank", 15, random -> get("/api/players/" + pick(players, random) + "/rank")),
+            new Operation("player games", 15, random -> get("/api/players/" + pick(players, random)
+                + "/games?pageSize=20")),
+            new Operation("get game", 5, random -> get("/api/games/" + pick(games, random))),
+            new Operation("create game", 10, random -> post("/api/games", game(players, random))),
+            new Operation("create player", 3, random -> post("/api/players", "{\"first_name\":\"New\","
+                + "\"last_name\":\"" + UUID.randomUUID() + "\"}")),
+            new Operation("rename player", 2, random -> HttpRequest.newBuilder(uri("/api/players/"
+                    + pick(players, random)))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"first_name\":\"Renamed\",\"last_name\":\""
+                    + UUID.randomUUID() + "\"}"))
+                .build()));
+    }
+
+    private static String game(List<UUID> players, Random random) {
+        var seats = random.ints(0, players.size()).distinct().limit(3).mapToObj(players::get).toList();
+        return """
+            {"player1_id":"%s","player2_id":"%s","player3_id":"%s","main_player_id":"%s",\
+            "bid_value":%d,"score":%d,"played_at":"%s"}"""
+            .formatted(seats.get(0), seats.get(1), seats.get(2), seats.get(random.nextInt(3)),
+                LoadTestDataset.randomBid(random), LoadTestDataset.randomScore(random), OffsetDateTime.now());
+    }
+
+    private static UUID pick(List<UUID> ids, Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,13 @@
+package com.skat.backend.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * {@link PlayersLoadIT} with Tomcat and the async executors on virtual threads. Both runs use the same dataset,
+ * traffic mix and seed, so their reports compare the two modes.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+@EnabledIfSystemProperty(named = "skat.loadtest", matches = "true")
+class PlayersVirtualThreadsLoadIT extends PlayersLoadIT {
+}